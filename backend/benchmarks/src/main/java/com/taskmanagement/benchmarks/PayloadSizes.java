@@ -0,0 +1,35 @@
+package com.taskmanagement.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.taskmanagement.model.Task;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Prints the size on the wire of each representation benchmarked by
+ * {@link TaskPayloadBenchmark}, relative to uncompressed JSON.
+ */
+public final class PayloadSizes {
+
+    private static final String[] FORMATS = {"json", "cbor"};
+
+    private PayloadSizes() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.out.printf("%-6s %-6s %-9s %10s %8s%n", "tasks", "format", "encoding", "bytes", "vs json");
+        for (int size : new int[]{100, 1000}) {
+            List<Task> tasks = TaskPayloadBenchmark.tasks(size);
+            long json = TaskPayloadBenchmark.encode(TaskPayloadBenchmark.mapper("json").writer(), tasks, false).length;
+            for (String format : FORMATS) {
+                ObjectWriter writer = TaskPayloadBenchmark.mapper(format).writer();
+                for (boolean gzip : new boolean[]{false, true}) {
+                    long bytes = TaskPayloadBenchmark.encode(writer, tasks, gzip).length;
+                    System.out.printf("%-6d %-6s %-9s %10d %7.0f%%%n",
+                            size, format, gzip ? "gzip" : "identity", bytes, 100.0 * bytes / json);
+                }
+            }
+        }
+    }
+}
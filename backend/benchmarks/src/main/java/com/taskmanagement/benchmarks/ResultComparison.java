@@ -0,0 +1,63 @@
+package com.taskmanagement.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Prints two JMH JSON result files side by side, e.g. from the commits before
+ * and after a change:
+ * {@code mvn compile exec:java@compare -Dexec.args="before.json after.json"}
+ */
+public final class ResultComparison {
+
+    private ResultComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: ResultComparison <baseline.json> <current.json>");
+            System.exit(2);
+        }
+        Map<String, JsonNode> baseline = read(args[0]);
+        Map<String, JsonNode> current = read(args[1]);
+
+        System.out.printf("%-70s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        current.forEach((name, result) -> {
+            JsonNode metric = result.get("primaryMetric");
+            double score = metric.get("score").asDouble();
+            String unit = metric.get("scoreUnit").asText();
+            JsonNode before = baseline.get(name);
+            if (before == null) {
+                System.out.printf("%-70s %14s %14s %9s%n", name, "-", format(score, unit), "new");
+                return;
+            }
+            double beforeScore = before.get("primaryMetric").get("score").asDouble();
+            System.out.printf("%-70s %14s %14s %+8.1f%%%n", name, format(beforeScore, unit),
+                    format(score, unit), (score - beforeScore) / beforeScore * 100);
+        });
+    }
+
+    private static Map<String, JsonNode> read(String path) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(new File(path))) {
+            StringBuilder name = new StringBuilder(result.get("benchmark").asText()
+                    .replace("com.taskmanagement.", ""));
+            JsonNode params = result.get("params");
+            if (params != null) {
+                params.fields().forEachRemaining(param ->
+                        name.append(' ').append(param.getKey()).append('=').append(param.getValue().asText()));
+            }
+            results.put(name.toString(), result);
+        }
+        return results;
+    }
+
+    private static String format(double score, String unit) {
+        return String.format("%.2f %s", score, unit);
+    }
+}
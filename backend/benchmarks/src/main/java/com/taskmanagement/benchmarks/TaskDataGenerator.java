@@ -0,0 +1,59 @@
+package com.taskmanagement.benchmarks;
+
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Produces the same tasks for the same seed, so runs on different commits
+ * measure identical data.
+ */
+public final class TaskDataGenerator {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final String[] VERBS = {"Fix", "Write", "Review", "Deploy", "Refactor", "Plan", "Test", "Update"};
+    private static final String[] NOUNS = {"login page", "API docs", "release notes", "database index",
+            "billing service", "search form", "CI pipeline", "error handling"};
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private final Random random;
+
+    public TaskDataGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /** A task as a client would submit it: no id, timestamps or version. */
+    public Task next() {
+        Task task = new Task();
+        task.setTitle(VERBS[random.nextInt(VERBS.length)] + " " + NOUNS[random.nextInt(NOUNS.length)]);
+        task.setDescription(random.nextInt(4) == 0 ? null
+                : "Generated task " + random.nextInt(1_000_000) + " with a description of typical length.");
+        task.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+        task.setDueDate(random.nextBoolean() ? null : BASE_DATE.plusHours(random.nextInt(24 * 365)));
+        return task;
+    }
+
+    /** Like {@link #next()}, but filled in as if it had been loaded from the database. */
+    public Task nextPersisted(long id) {
+        Task task = next();
+        task.setId(id);
+        task.setUniqueId(new UUID(random.nextLong(), random.nextLong()));
+        task.setCreatedAt(BASE_DATE.plusMinutes(id));
+        task.setUpdatedAt(BASE_DATE.plusMinutes(id + random.nextInt(10_000)));
+        task.setVersion((long) random.nextInt(5));
+        return task;
+    }
+
+    public List<Task> next(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(next());
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,114 @@
+package com.taskmanagement.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskmanagement.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * CPU cost of the representations a client can negotiate for a task list:
+ * JSON or CBOR ({@code Accept}), each with or without gzip
+ * ({@code Accept-Encoding}). {@link PayloadSizes} prints the matching byte
+ * counts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TaskPayloadBenchmark {
+
+    private static final TypeReference<List<Task>> TASK_LIST = new TypeReference<>() {
+    };
+
+    @Param({"100", "1000"})
+    public int size;
+
+    @Param({"json", "cbor"})
+    public String format;
+
+    @Param({"identity", "gzip"})
+    public String encoding;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<Task> tasks;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = mapper(format);
+        writer = objectMapper.writer();
+        reader = objectMapper.readerFor(TASK_LIST);
+        tasks = tasks(size);
+        payload = encode();
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return encode(writer, tasks, "gzip".equals(encoding));
+    }
+
+    @Benchmark
+    public List<Task> decode() throws IOException {
+        InputStream in = new ByteArrayInputStream(payload);
+        if ("gzip".equals(encoding)) {
+            in = new GZIPInputStream(in);
+        }
+        return reader.readValue(in);
+    }
+
+    /** A mapper configured the way Spring Boot configures the application's. */
+    static ObjectMapper mapper(String format) {
+        Jackson2ObjectMapperBuilder builder = "cbor".equals(format)
+                ? Jackson2ObjectMapperBuilder.cbor()
+                : Jackson2ObjectMapperBuilder.json();
+        return builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+    }
+
+    static List<Task> tasks(int size) {
+        TaskDataGenerator generator = new TaskDataGenerator(42);
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            tasks.add(generator.nextPersisted(i));
+        }
+        return tasks;
+    }
+
+    /** Tomcat compresses with GZIPOutputStream at its default level, as here. */
+    static byte[] encode(ObjectWriter writer, List<Task> tasks, boolean gzip) throws IOException {
+        if (!gzip) {
+            return writer.writeValueAsBytes(tasks);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            writer.writeValue(out, tasks);
+        }
+        return bytes.toByteArray();
+    }
+}
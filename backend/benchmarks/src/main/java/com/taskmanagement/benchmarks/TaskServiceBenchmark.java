@@ -0,0 +1,103 @@
+package com.taskmanagement.benchmarks;
+
+import com.taskmanagement.TaskManagementApplication;
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskStatus;
+import com.taskmanagement.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TaskService} against the in-memory H2 database, with the full
+ * application context but no web server. Each table size runs in its own
+ * fork, seeded with the same generated tasks every time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskServiceBenchmark {
+
+    private static final int SEED_BATCH = 10_000;
+
+    @Param({"1000", "100000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private JdbcTemplate jdbcTemplate;
+    private TaskDataGenerator generator;
+    private Random random;
+    private long firstId;
+    private long lastSeededId;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(TaskManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off", "--logging.level.root=WARN",
+                        "--logging.level.com.taskmanagement=WARN");
+        taskService = context.getBean(TaskService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        TaskDataGenerator seed = new TaskDataGenerator(42);
+        for (int created = 0; created < rows; created += SEED_BATCH) {
+            taskService.createTasks(seed.next(Math.min(SEED_BATCH, rows - created)));
+        }
+        firstId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM tasks", Long.class);
+        lastSeededId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM tasks", Long.class);
+        generator = new TaskDataGenerator(7);
+        random = new Random(7);
+    }
+
+    /** Drops the rows createTask added so every iteration sees the seeded table size. */
+    @TearDown(Level.Iteration)
+    public void removeCreatedTasks() {
+        jdbcTemplate.update("DELETE FROM tasks WHERE id > ?", lastSeededId);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public Task createTask() {
+        return taskService.createTask(generator.next());
+    }
+
+    @Benchmark
+    public Task updateTask() {
+        long id = firstId + random.nextInt((int) (lastSeededId - firstId + 1));
+        Task patch = new Task();
+        patch.setTitle("Updated " + id);
+        patch.setStatus(random.nextBoolean() ? TaskStatus.IN_PROGRESS : TaskStatus.DONE);
+        return taskService.updateTask(id, patch);
+    }
+
+    @Benchmark
+    public List<Task> getAllTasks() {
+        return taskService.getAllTasks();
+    }
+}
@@ -0,0 +1,58 @@
+package com.taskmanagement.model;
+
+import com.taskmanagement.benchmarks.TaskDataGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Task#toString()} and the JPA lifecycle callbacks that run on every
+ * insert and update. Lives in the model package to reach the protected
+ * callbacks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TaskEntityBenchmark {
+
+    private Task persisted;
+    private Task template;
+
+    @Setup
+    public void setUp() {
+        TaskDataGenerator generator = new TaskDataGenerator(42);
+        persisted = generator.nextPersisted(1);
+        template = generator.next();
+    }
+
+    @Benchmark
+    public String taskToString() {
+        return persisted.toString();
+    }
+
+    /** A fresh task each time, so the unique id is generated as on a real insert. */
+    @Benchmark
+    public Task onCreate() {
+        Task task = new Task(template.getTitle(), template.getDescription(), template.getStatus());
+        task.onCreate();
+        return task;
+    }
+
+    @Benchmark
+    public Task onUpdate() {
+        persisted.onUpdate();
+        return persisted;
+    }
+}
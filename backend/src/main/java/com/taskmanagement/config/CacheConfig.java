@@ -0,0 +1,41 @@
+package com.taskmanagement.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * In-process cache for single-task reads. Caffeine bounds it by size (W-TinyLFU
+ * admission) and age, and records the hit/miss/eviction statistics that
+ * Actuator publishes as {@code cache.*} metrics. Set
+ * {@code tasks.cache.enabled=false} to turn caching off.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String TASKS_CACHE = "tasks";
+
+    @Bean
+    @ConditionalOnProperty(name = "tasks.cache.enabled", havingValue = "true", matchIfMissing = true)
+    public CacheManager cacheManager(
+            @Value("${tasks.cache.spec:maximumSize=10000,expireAfterWrite=5m,recordStats}") String spec) {
+        CaffeineCacheManager caffeine = new CaffeineCacheManager(TASKS_CACHE);
+        caffeine.setCacheSpecification(spec);
+        // Defer evictions to after commit so a concurrent reader cannot
+        // re-cache the row between our eviction and the commit.
+        return new TransactionAwareCacheManagerProxy(caffeine);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tasks.cache.enabled", havingValue = "false")
+    public CacheManager noOpCacheManager() {
+        return new NoOpCacheManager();
+    }
+}
@@ -0,0 +1,26 @@
+package com.taskmanagement.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Offers CBOR alongside JSON on every endpoint. Clients opt in with
+ * {@code Accept: application/cbor} (and may send CBOR request bodies);
+ * everyone else keeps getting JSON.
+ */
+@Configuration
+public class ContentNegotiationConfig {
+
+    /**
+     * Built from Boot's {@link Jackson2ObjectMapperBuilder} so CBOR payloads get
+     * the same modules and features as JSON, e.g. ISO-8601 dates. Replaces the
+     * default CBOR converter Spring MVC would register with a plain mapper.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
@@ -0,0 +1,64 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.metrics.EndpointMetricsInterceptor;
+import com.taskmanagement.metrics.QueryMetricsListener;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Metrics beyond what Actuator records on its own: {@code @Timed} support for
+ * service methods, per-request query counts and the slow-query log.
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    /**
+     * Wraps the pool in a datasource-proxy that reports every statement to
+     * {@link QueryMetricsListener}. Static so it does not pull this
+     * configuration into the post-processor phase.
+     */
+    @Bean
+    public static BeanPostProcessor queryMetricsDataSourceWrapper(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${tasks.metrics.slow-query-threshold:200ms}") Duration slowQueryThreshold) {
+        QueryMetricsListener listener = new QueryMetricsListener(meterRegistry::getObject, slowQueryThreshold);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(listener)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new EndpointMetricsInterceptor(meterRegistry)).addPathPatterns("/api/**");
+    }
+}
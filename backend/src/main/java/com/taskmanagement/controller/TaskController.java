@@ -1,68 +1,294 @@
 package com.taskmanagement.controller;
 
+import com.taskmanagement.events.TaskEventBroadcaster;
 import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskField;
+import com.taskmanagement.model.TaskSort;
+import com.taskmanagement.model.TaskStatus;
+import com.taskmanagement.service.IdempotencyKeyConflictException;
+import com.taskmanagement.service.TaskAsyncService;
+import com.taskmanagement.service.TaskChanges;
+import com.taskmanagement.service.TaskDueIndexLoadingException;
+import com.taskmanagement.service.TaskDueResults;
+import com.taskmanagement.service.TaskIdempotencyStore;
+import com.taskmanagement.service.TaskPage;
+import com.taskmanagement.service.TaskSearchResults;
 import com.taskmanagement.service.TaskService;
+import com.taskmanagement.service.TaskServiceBusyException;
+import com.taskmanagement.service.TaskStats;
+import com.taskmanagement.service.TaskVersionConflictException;
+import com.taskmanagement.service.TaskWriteBehind;
+import com.taskmanagement.service.WatermarkExpiredException;
+import com.taskmanagement.service.WriteBehindUnavailableException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/tasks")
-@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173", "http://localhost:5174"})
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173", "http://localhost:5174"},
+        exposedHeaders = {TaskController.NEXT_CURSOR_HEADER, HttpHeaders.ETAG, TaskController.IDEMPOTENT_REPLAYED_HEADER})
 public class TaskController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    static final MediaType CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private TaskExportWriter taskExportWriter;
+
+    @Autowired
+    private TaskEventBroadcaster taskEventBroadcaster;
+
+    @Autowired
+    private TaskAsyncService taskAsyncService;
+
+    @Autowired
+    private TaskWriteBehind taskWriteBehind;
+
+    @Autowired
+    private TaskIdempotencyStore taskIdempotencyStore;
+
     @GetMapping
-    public ResponseEntity<List<Task>> getAllTasks() {
-        List<Task> tasks = taskService.getAllTasks();
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<?> getAllTasks(@RequestParam(required = false) String status,
+                                         @RequestParam(required = false) Boolean completed,
+                                         @RequestParam(required = false) String sort,
+                                         @RequestParam(required = false) String fields,
+                                         @RequestParam(required = false) String cursor,
+                                         @RequestParam(required = false) Integer limit) {
+        try {
+            Set<TaskField> selected = TaskField.fromParam(fields);
+            TaskPage page = taskService.getTasks(TaskStatus.fromParam(status), completed,
+                    TaskSort.fromParam(sort), selected, cursor, limit);
+            // Spring answers a matching If-None-Match with 304 once the ETag is set.
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .eTag(TaskETags.of(page.items(), selected, page.nextCursor()));
+            if (page.nextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+            }
+            return response.body(page.items());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<?> getChanges(@RequestParam(required = false) String since,
+                                        @RequestParam(required = false) Integer limit) {
+        try {
+            TaskChanges changes = taskService.getChanges(since, limit);
+            return ResponseEntity.ok(changes);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        } catch (WatermarkExpiredException e) {
+            return ResponseEntity.status(HttpStatus.GONE).body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<?> searchTasks(@RequestParam(required = false) String q,
+                                         @RequestParam(required = false) Integer offset,
+                                         @RequestParam(required = false) Integer limit) {
+        try {
+            TaskSearchResults results = taskService.searchTasks(q, offset, limit);
+            return ResponseEntity.ok(results);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    @GetMapping("/due")
+    public ResponseEntity<?> getTasksDue(@RequestParam(required = false) String after,
+                                         @RequestParam(required = false) String before,
+                                         @RequestParam(required = false) Integer limit) {
+        try {
+            TaskDueResults results = taskService.getTasksDue(after, before, limit);
+            return ResponseEntity.ok(results);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        } catch (TaskDueIndexLoadingException e) {
+            return serviceUnavailable(e);
+        }
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStats> getStats() {
+        return ResponseEntity.ok(taskService.getStats());
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTasks(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return taskEventBroadcaster.subscribe(lastEventId);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(defaultValue = "ndjson") String format) {
+        StreamingResponseBody body;
+        MediaType contentType;
+        if ("ndjson".equalsIgnoreCase(format)) {
+            body = taskExportWriter::writeNdjson;
+            contentType = NDJSON;
+        } else if ("csv".equalsIgnoreCase(format)) {
+            body = taskExportWriter::writeCsv;
+            contentType = CSV;
+        } else {
+            throw new UnsupportedExportFormatException(format);
+        }
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"tasks." + format.toLowerCase() + "\"")
+                .body(body);
+    }
+
+    /**
+     * Answers an unsupported export format. The export method cannot return an
+     * {@link ErrorResponse} itself: Spring only streams a
+     * {@link StreamingResponseBody} when the declared return type says so.
+     */
+    @ExceptionHandler(UnsupportedExportFormatException.class)
+    public ResponseEntity<ErrorResponse> unsupportedExportFormat(UnsupportedExportFormatException e) {
+        return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Task> getTaskById(@PathVariable Long id) {
-        Optional<Task> task = taskService.getTaskById(id);
-        return task.map(ResponseEntity::ok)
+        // Updates still queued for write-behind are not in the database yet.
+        Optional<Task> task = taskWriteBehind.find(id).or(() -> taskService.getTaskById(id));
+        return task.map(t -> ResponseEntity.ok().eTag(TaskETags.of(t)).body(t))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @PostMapping
-    public ResponseEntity<?> createTask(@RequestBody Task task) {
-        try {
-            Task createdTask = taskService.createTask(task);
-            return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+    public CompletableFuture<ResponseEntity<?>> createTask(@RequestBody Task task,
+                                                           @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return taskAsyncService.createTask(task)
+                    .<ResponseEntity<?>>thenApply(created ->
+                            ResponseEntity.status(HttpStatus.CREATED).eTag(TaskETags.of(created)).body(created))
+                    .exceptionally(TaskController::failure);
         }
+        // A retry gets the same 201 as the original request, marked as a replay.
+        return taskIdempotencyStore.createTask(idempotencyKey, task)
+                .<ResponseEntity<?>>thenApply(created -> ResponseEntity.status(HttpStatus.CREATED)
+                        .eTag(TaskETags.of(created.task()))
+                        .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(created.replayed()))
+                        .body(created.task()))
+                .exceptionally(TaskController::failure);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<?> updateTask(@PathVariable Long id, @RequestBody Task taskDetails) {
+    public CompletableFuture<ResponseEntity<?>> updateTask(@PathVariable Long id, @RequestBody Task taskDetails,
+                                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion;
         try {
-            Task updatedTask = taskService.updateTask(id, taskDetails);
-            return ResponseEntity.ok(updatedTask);
+            expectedVersion = TaskETags.parseIfMatch(ifMatch);
         } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
+            return CompletableFuture.completedFuture(failure(e));
         }
+        return taskAsyncService.updateTask(id, taskDetails, expectedVersion)
+                .<ResponseEntity<?>>thenApply(updated -> ResponseEntity.ok().eTag(TaskETags.of(updated)).body(updated))
+                .exceptionally(TaskController::failureOrNotFound);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
+    public CompletableFuture<ResponseEntity<?>> deleteTask(@PathVariable Long id,
+                                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion;
         try {
-            taskService.deleteTask(id);
-            return ResponseEntity.noContent().build();
+            expectedVersion = TaskETags.parseIfMatch(ifMatch);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(failure(e));
+        }
+        return taskAsyncService.deleteTask(id, expectedVersion)
+                .<ResponseEntity<?>>thenApply(deleted -> ResponseEntity.noContent().build())
+                .exceptionally(TaskController::failureOrNotFound);
+    }
+
+    @PostMapping("/batch")
+    public CompletableFuture<ResponseEntity<?>> createTasks(@RequestBody List<Task> tasks) {
+        return taskAsyncService.createTasks(tasks)
+                .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+                .exceptionally(TaskController::failure);
+    }
+
+    @PatchMapping("/batch")
+    public CompletableFuture<ResponseEntity<?>> updateTasks(@RequestBody List<Task> tasks) {
+        return taskAsyncService.updateTasks(tasks)
+                .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+                .exceptionally(TaskController::failure);
+    }
+
+    @DeleteMapping("/batch")
+    public CompletableFuture<ResponseEntity<?>> deleteTasks(@RequestBody List<Long> ids) {
+        return taskAsyncService.deleteTasks(ids)
+                .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+                .exceptionally(TaskController::failure);
+    }
+
+    /**
+     * The response for a failed write. Anything not recognised here is rethrown
+     * and handled like an exception from a synchronous handler.
+     */
+    private static ResponseEntity<?> failure(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof IllegalArgumentException) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(cause.getMessage()));
+        }
+        if (cause instanceof TaskVersionConflictException) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(new ErrorResponse(cause.getMessage()));
+        }
+        if (cause instanceof IdempotencyKeyConflictException) {
+            return ResponseEntity.unprocessableEntity().body(new ErrorResponse(cause.getMessage()));
+        }
+        if (cause instanceof WriteBehindUnavailableException || cause instanceof TaskServiceBusyException) {
+            return serviceUnavailable(cause);
+        }
+        throw cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+    }
+
+    /** Like {@link #failure}, but for writes to one task, where any other error means it does not exist. */
+    private static ResponseEntity<?> failureOrNotFound(Throwable error) {
+        try {
+            return failure(error);
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
+    /**
+     * The write queue is full, write-behind could not flush or the due-date
+     * index is still loading; worth retrying shortly.
+     */
+    private static ResponseEntity<ErrorResponse> serviceUnavailable(Throwable e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse(e.getMessage()));
+    }
+
+    static class UnsupportedExportFormatException extends IllegalArgumentException {
+        UnsupportedExportFormatException(String format) {
+            super("Unsupported format: " + format + "; supported formats are ndjson and csv");
+        }
+    }
+
     // Inner class for error response
     public static class ErrorResponse {
         private String message;
@@ -0,0 +1,61 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskField;
+import com.taskmanagement.repository.TaskProjection;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Entity tags derived from {@link Task#getVersion()}, so they can be computed
+ * and compared without serialising the response body.
+ */
+final class TaskETags {
+
+    private TaskETags() {
+    }
+
+    /** Strong tag for a single task; usable with If-Match. */
+    static String of(Task task) {
+        return "\"" + task.getVersion() + "\"";
+    }
+
+    /**
+     * Weak tag for a page of tasks. Any insert, update or delete that affects
+     * the page changes an (id, version) pair or the set of ids, and so the tag.
+     * The selected fields are part of the key since they change the body.
+     */
+    static String of(List<TaskProjection> tasks, Set<TaskField> fields, String nextCursor) {
+        StringBuilder key = new StringBuilder(tasks.size() * 12);
+        for (TaskProjection task : tasks) {
+            key.append(task.getId()).append(':').append(task.getVersion()).append(',');
+        }
+        key.append(fields).append(',').append(nextCursor);
+        return "W/\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Extracts the version from an If-Match header. Returns null when the
+     * header is absent or {@code *}, meaning the write is unconditional.
+     */
+    static Long parseIfMatch(String header) {
+        if (header == null || header.isBlank() || "*".equals(header.trim())) {
+            return null;
+        }
+        String value = header.trim();
+        if (value.startsWith("W/")) {
+            throw new IllegalArgumentException("If-Match requires a strong entity tag");
+        }
+        if (value.length() < 3 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+            throw new IllegalArgumentException("Malformed If-Match header");
+        }
+        try {
+            return Long.valueOf(value.substring(1, value.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed If-Match header");
+        }
+    }
+}
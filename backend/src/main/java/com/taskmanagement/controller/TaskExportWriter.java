@@ -0,0 +1,91 @@
+package com.taskmanagement.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.taskmanagement.model.Task;
+import com.taskmanagement.service.TaskService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes the full task table to a response stream one row at a time, so the
+ * export never materialises the table in memory.
+ */
+@Component
+public class TaskExportWriter {
+
+    private static final String CSV_HEADER =
+            "id,uniqueId,title,description,status,completed,dueDate,createdAt,updatedAt";
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public void writeNdjson(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(Task.class);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            taskService.exportTasks(task -> {
+                try {
+                    writer.writeValue(generator, task);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    public void writeCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        taskService.exportTasks(task -> {
+            try {
+                writer.write(String.valueOf(task.getId()));
+                writer.write(',');
+                writer.write(csv(task.getUniqueId()));
+                writer.write(',');
+                writer.write(csv(task.getTitle()));
+                writer.write(',');
+                writer.write(csv(task.getDescription()));
+                writer.write(',');
+                writer.write(csv(task.getStatus()));
+                writer.write(',');
+                writer.write(String.valueOf(task.isCompleted()));
+                writer.write(',');
+                writer.write(csv(task.getDueDate()));
+                writer.write(',');
+                writer.write(csv(task.getCreatedAt()));
+                writer.write(',');
+                writer.write(csv(task.getUpdatedAt()));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
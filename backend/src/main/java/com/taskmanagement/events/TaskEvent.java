@@ -0,0 +1,31 @@
+package com.taskmanagement.events;
+
+import com.taskmanagement.model.Task;
+
+/**
+ * A task mutation, published by {@code TaskService} and delivered to stream
+ * subscribers once the surrounding transaction has committed. {@code task} is
+ * null for deletions.
+ */
+public record TaskEvent(Type type, Long taskId, Task task) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED;
+
+        public String eventName() {
+            return name().toLowerCase();
+        }
+    }
+
+    public static TaskEvent created(Task task) {
+        return new TaskEvent(Type.CREATED, task.getId(), task);
+    }
+
+    public static TaskEvent updated(Task task) {
+        return new TaskEvent(Type.UPDATED, task.getId(), task);
+    }
+
+    public static TaskEvent deleted(Long taskId) {
+        return new TaskEvent(Type.DELETED, taskId, null);
+    }
+}
@@ -0,0 +1,313 @@
+package com.taskmanagement.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans task events out to Server-Sent Events subscribers.
+ *
+ * <p>Connections are async servlet requests, so an idle subscriber holds no
+ * thread. Each subscriber has a bounded queue drained by a small shared
+ * dispatcher pool; a subscriber whose queue overflows is disconnected rather
+ * than allowed to hold back everyone else, and its client resumes through
+ * {@code Last-Event-ID} from the in-memory replay log.
+ *
+ * <p>A send blocks while the client's socket is full. A send still blocked
+ * after {@code tasks.stream.write-timeout} disconnects its subscriber, and the
+ * pool gets an extra thread until that send returns. A few stuck clients
+ * therefore cannot take every dispatcher thread away from the others.
+ */
+@Component
+public class TaskEventBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskEventBroadcaster.class);
+
+    /** Tells a client its position could not be resumed and it must refetch. */
+    static final String RESET_EVENT = "reset";
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    /** {@link Subscriber#sendStartedAt} when no send is in progress. */
+    private static final long IDLE = Long.MIN_VALUE;
+    /** {@link Subscriber#sendStartedAt} once a send has overrun the write timeout. */
+    private static final long STALLED = Long.MAX_VALUE;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final TaskEventLog eventLog;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final ThreadPoolExecutor dispatcher;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long writeTimeoutNanos;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public TaskEventBroadcaster(@Value("${tasks.stream.replay-capacity:1024}") int replayCapacity,
+                                @Value("${tasks.stream.buffer-size:256}") int bufferSize,
+                                @Value("${tasks.stream.dispatcher-threads:4}") int dispatcherThreads,
+                                @Value("${tasks.stream.timeout:30m}") Duration timeout,
+                                @Value("${tasks.stream.write-timeout:5s}") Duration writeTimeout) {
+        this.eventLog = new TaskEventLog(replayCapacity);
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.dispatcher = new ThreadPoolExecutor(dispatcherThreads, dispatcherThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "sse-dispatch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Registers a subscriber. When {@code lastEventId} is given, events after
+     * it are replayed first, or a {@value #RESET_EVENT} event is sent if they
+     * are no longer in the replay log.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = newEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, bufferSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        synchronized (eventLog) {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                List<TaskEventLog.Entry> missed = eventLog.after(parseSequence(lastEventId));
+                if (missed == null || missed.size() > bufferSize) {
+                    subscriber.offer(reset());
+                } else {
+                    missed.forEach(entry -> subscriber.offer(toSse(entry)));
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        schedule(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        String data;
+        try {
+            data = event.task() != null
+                    ? objectMapper.writeValueAsString(event.task())
+                    : objectMapper.writeValueAsString(Map.of("id", event.taskId()));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialise {} event for task {}", event.type(), event.taskId(), e);
+            return;
+        }
+        // Serialise once, then only enqueue per subscriber; the lock keeps log
+        // order and delivery order identical for replay.
+        synchronized (eventLog) {
+            Set<DataWithMediaType> sse = toSse(eventLog.append(event.type().eventName(), data));
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.offer(sse)) {
+                    dropSlowConsumer(subscriber);
+                }
+            }
+        }
+        subscribers.forEach(this::schedule);
+    }
+
+    @Scheduled(fixedRateString = "${tasks.stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            // Only idle connections need keeping alive.
+            if (subscriber.queue.isEmpty() && subscriber.offer(HEARTBEAT)) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Disconnects subscribers whose send has been blocked for longer than the
+     * write timeout. Their dispatcher thread stays in the send until the socket
+     * gives up, so the pool gets another thread in its place meanwhile.
+     */
+    @Scheduled(fixedRateString = "${tasks.stream.write-check-interval:PT1S}")
+    public void expireStalledSends() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.sendStartedAt.get();
+            if (started != IDLE && started != STALLED && now - started > writeTimeoutNanos
+                    && subscriber.sendStartedAt.compareAndSet(started, STALLED)) {
+                if (subscribers.remove(subscriber)) {
+                    log.debug("Disconnecting SSE subscriber; a send has been blocked for over {} ms",
+                            TimeUnit.NANOSECONDS.toMillis(writeTimeoutNanos));
+                }
+                subscriber.queue.clear();
+                resizeDispatcher(1);
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        dispatcher.shutdownNow();
+    }
+
+    private void dropSlowConsumer(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            log.debug("Disconnecting slow SSE subscriber; buffer of {} events is full", bufferSize);
+            subscriber.queue.clear();
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.queue.isEmpty() && subscriber.scheduled.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        boolean open = true;
+        try {
+            Set<DataWithMediaType> event;
+            while (open && (event = subscriber.queue.poll()) != null) {
+                open = send(subscriber, event);
+            }
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+        // An event may have been queued after the last poll but before the flag was cleared.
+        if (open) {
+            schedule(subscriber);
+        }
+    }
+
+    /** Sends one event; false once the subscriber is gone. */
+    private boolean send(Subscriber subscriber, Set<DataWithMediaType> event) {
+        // A disconnected subscriber may still be scheduled once; never write to it again.
+        if (!subscribers.contains(subscriber)) {
+            subscriber.queue.clear();
+            return false;
+        }
+        subscriber.sendStartedAt.set(System.nanoTime());
+        boolean sent;
+        try {
+            subscriber.emitter.send(event);
+            sent = true;
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the emitter already completed.
+            sent = false;
+        }
+        if (subscriber.sendStartedAt.getAndSet(IDLE) == STALLED) {
+            // Already disconnected by expireStalledSends, which lent the pool
+            // a thread while this one was stuck; hand it back.
+            resizeDispatcher(-1);
+            if (sent) {
+                subscriber.emitter.complete();
+            }
+            return false;
+        }
+        if (!sent) {
+            subscribers.remove(subscriber);
+            subscriber.queue.clear();
+        }
+        return sent;
+    }
+
+    /** Core size never exceeds the maximum: raise the maximum first, lower it last. */
+    private synchronized void resizeDispatcher(int delta) {
+        if (delta > 0) {
+            dispatcher.setMaximumPoolSize(dispatcher.getMaximumPoolSize() + delta);
+            dispatcher.setCorePoolSize(dispatcher.getCorePoolSize() + delta);
+            // Work already queued does not start a thread by itself.
+            dispatcher.prestartCoreThread();
+        } else {
+            dispatcher.setCorePoolSize(dispatcher.getCorePoolSize() + delta);
+            dispatcher.setMaximumPoolSize(dispatcher.getMaximumPoolSize() + delta);
+        }
+    }
+
+    /** Overridden by tests to stand in for a client. */
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * Builds the wire form once. An {@code SseEventBuilder} must not be built
+     * twice, so subscribers share the built chunks instead.
+     */
+    private Set<DataWithMediaType> toSse(TaskEventLog.Entry entry) {
+        return SseEmitter.event()
+                .id(epoch + "-" + entry.id())
+                .name(entry.name())
+                .data(entry.data())
+                .build();
+    }
+
+    private Set<DataWithMediaType> reset() {
+        return SseEmitter.event()
+                .id(epoch + "-" + eventLog.lastId())
+                .name(RESET_EVENT)
+                .data("{}")
+                .build();
+    }
+
+    /** Ids from another server instance (a different epoch) cannot be resumed. */
+    private long parseSequence(String lastEventId) {
+        int dash = lastEventId.lastIndexOf('-');
+        if (dash < 0 || !epoch.equals(lastEventId.substring(0, dash))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        /** {@link System#nanoTime()} when the send in progress started, or {@link #IDLE} / {@link #STALLED}. */
+        private final AtomicLong sendStartedAt = new AtomicLong(IDLE);
+
+        private Subscriber(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private boolean offer(Set<DataWithMediaType> event) {
+            return queue.offer(event);
+        }
+    }
+}
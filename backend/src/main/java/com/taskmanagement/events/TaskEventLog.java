@@ -0,0 +1,55 @@
+package com.taskmanagement.events;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-capacity ring buffer of the most recent serialised events, used to
+ * replay what a reconnecting client missed. Sequence numbers start at 1 and
+ * double as SSE event ids. Not thread-safe; callers synchronise.
+ */
+class TaskEventLog {
+
+    record Entry(long id, String name, String data) {
+    }
+
+    private final Entry[] entries;
+    private long lastId;
+
+    TaskEventLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        this.entries = new Entry[capacity];
+    }
+
+    Entry append(String name, String data) {
+        Entry entry = new Entry(++lastId, name, data);
+        entries[(int) (entry.id() % entries.length)] = entry;
+        return entry;
+    }
+
+    long lastId() {
+        return lastId;
+    }
+
+    /**
+     * Entries with an id greater than {@code afterId}, oldest first, or null
+     * when the gap cannot be filled: some of them have already been overwritten,
+     * or {@code afterId} was never issued by this log.
+     */
+    List<Entry> after(long afterId) {
+        if (afterId == lastId) {
+            return List.of();
+        }
+        long oldest = Math.max(1, lastId - entries.length + 1);
+        if (afterId > lastId || afterId + 1 < oldest || afterId < 0) {
+            return null;
+        }
+        List<Entry> missed = new ArrayList<>((int) (lastId - afterId));
+        for (long id = afterId + 1; id <= lastId; id++) {
+            missed.add(entries[(int) (id % entries.length)]);
+        }
+        return missed;
+    }
+}
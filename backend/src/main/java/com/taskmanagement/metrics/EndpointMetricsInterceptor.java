@@ -0,0 +1,68 @@
+package com.taskmanagement.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Opens an {@link EndpointQueryContext} for each API request and records how
+ * many statements the request ran as {@code tasks.http.queries}, tagged with
+ * the endpoint's method and URI template. For a request completed
+ * asynchronously the count is recorded when the result is dispatched back, so
+ * it includes the statements run on the worker thread.
+ */
+public class EndpointMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String CONTEXT_ATTRIBUTE = EndpointMetricsInterceptor.class.getName() + ".context";
+
+    private final MeterRegistry meterRegistry;
+
+    public EndpointMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // The async re-dispatch of a streaming response is not a new request.
+        if (request.getDispatcherType() != DispatcherType.ASYNC) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            EndpointQueryContext.begin(request.getMethod() + " " + (pattern != null ? pattern : "UNKNOWN"));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        EndpointQueryContext context = EndpointQueryContext.end();
+        if (context != null) {
+            request.setAttribute(CONTEXT_ATTRIBUTE, context);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        EndpointQueryContext context = EndpointQueryContext.end();
+        if (context == null && request.getDispatcherType() == DispatcherType.ASYNC) {
+            context = (EndpointQueryContext) request.getAttribute(CONTEXT_ATTRIBUTE);
+            request.removeAttribute(CONTEXT_ATTRIBUTE);
+        }
+        record(context);
+    }
+
+    private void record(EndpointQueryContext context) {
+        if (context == null) {
+            return;
+        }
+        DistributionSummary.builder("tasks.http.queries")
+                .description("JDBC statements executed per request")
+                .tag("endpoint", context.endpoint())
+                .register(meterRegistry)
+                .record(context.queries());
+    }
+}
@@ -0,0 +1,64 @@
+package com.taskmanagement.metrics;
+
+/**
+ * The endpoint the current thread is serving and the number of JDBC
+ * statements it has executed so far. Absent outside a web request, e.g. in
+ * scheduled jobs. Work handed to another thread on the request's behalf carries
+ * it along with {@link #propagate(Runnable)}.
+ */
+public final class EndpointQueryContext {
+
+    private static final ThreadLocal<EndpointQueryContext> CURRENT = new ThreadLocal<>();
+
+    private final String endpoint;
+    private int queries;
+
+    private EndpointQueryContext(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    static void begin(String endpoint) {
+        CURRENT.set(new EndpointQueryContext(endpoint));
+    }
+
+    static EndpointQueryContext end() {
+        EndpointQueryContext context = CURRENT.get();
+        CURRENT.remove();
+        return context;
+    }
+
+    static EndpointQueryContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Wraps {@code task} so that it runs with the calling thread's context and
+     * its statements count towards the same request.
+     */
+    public static Runnable propagate(Runnable task) {
+        EndpointQueryContext context = CURRENT.get();
+        if (context == null) {
+            return task;
+        }
+        return () -> {
+            CURRENT.set(context);
+            try {
+                task.run();
+            } finally {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+
+    public int queries() {
+        return queries;
+    }
+
+    void countQuery() {
+        queries++;
+    }
+}
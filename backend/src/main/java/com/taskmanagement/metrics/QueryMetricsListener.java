@@ -0,0 +1,53 @@
+package com.taskmanagement.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Counts JDBC statements against the current {@link EndpointQueryContext} and
+ * logs statements slower than the threshold together with the endpoint that
+ * issued them.
+ */
+public class QueryMetricsListener implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryMetricsListener.class);
+
+    /** Endpoint tag for statements issued outside a web request. */
+    static final String NO_ENDPOINT = "none";
+
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final long thresholdMillis;
+
+    public QueryMetricsListener(Supplier<MeterRegistry> meterRegistry, Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.thresholdMillis = threshold.toMillis();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        EndpointQueryContext context = EndpointQueryContext.current();
+        if (context != null) {
+            context.countQuery();
+        }
+        if (execInfo.getElapsedTime() < thresholdMillis) {
+            return;
+        }
+        String endpoint = context == null ? NO_ENDPOINT : context.endpoint();
+        meterRegistry.get().counter("tasks.db.slow.queries", "endpoint", endpoint).increment();
+        log.warn("Slow query ({} ms) from {}: {}", execInfo.getElapsedTime(), endpoint,
+                queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; ")));
+    }
+}
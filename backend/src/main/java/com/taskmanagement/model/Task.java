@@ -9,62 +9,70 @@ import java.util.UUID;
 @Table(name = "tasks")
 public class Task {
 
+    // Pooled sequence rather than IDENTITY: ids are known before the INSERT,
+    // which lets Hibernate group inserts into JDBC batches.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false, updatable = false)
-    private String uniqueId;
+    private UUID uniqueId;
+
+    public static final int MAX_TITLE_LENGTH = 100;
+    public static final int MAX_DESCRIPTION_LENGTH = 500;
 
     @NotBlank(message = "Title cannot be empty")
-    @Column(nullable = false, length = 100)
+    @Column(nullable = false, length = MAX_TITLE_LENGTH)
     private String title;
 
-    @Column(columnDefinition = "VARCHAR(500)")
+    @Column(columnDefinition = "VARCHAR(" + MAX_DESCRIPTION_LENGTH + ")")
     private String description;
 
+    // Ordinal in a TINYINT; see TaskStatus before reordering its constants.
+    @Enumerated(EnumType.ORDINAL)
     @Column(nullable = false)
-    private Boolean completed = false;
-
-    @Column(nullable = false, length = 20)
-    private String status = "TODO";
+    private TaskStatus status = TaskStatus.TODO;
 
     @Column
     private LocalDateTime dueDate;
 
+    // Generated by the database from the status; mapped only so list queries
+    // can filter on it and use idx_tasks_open_due.
+    @Column(name = "is_open", insertable = false, updatable = false)
+    private Boolean open;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         if (uniqueId == null) {
-            uniqueId = UUID.randomUUID().toString();
+            uniqueId = UUID.randomUUID();
         }
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
-        syncCompletedWithStatus();
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
-        syncCompletedWithStatus();
-    }
-
-    private void syncCompletedWithStatus() {
-        this.completed = "DONE".equals(this.status);
     }
 
     public Task() {
     }
 
-    public Task(String title, String description, Boolean completed) {
+    public Task(String title, String description, TaskStatus status) {
         this.title = title;
         this.description = description;
-        this.completed = completed;
+        this.status = status;
     }
 
     public Long getId() {
@@ -75,11 +83,11 @@ public class Task {
         this.id = id;
     }
 
-    public String getUniqueId() {
+    public UUID getUniqueId() {
         return uniqueId;
     }
 
-    public void setUniqueId(String uniqueId) {
+    public void setUniqueId(UUID uniqueId) {
         this.uniqueId = uniqueId;
     }
 
@@ -99,21 +107,17 @@ public class Task {
         this.description = description;
     }
 
-    public Boolean getCompleted() {
-        return completed;
-    }
-
-    public void setCompleted(Boolean completed) {
-        this.completed = completed;
+    /** Derived from the status rather than stored. */
+    public boolean isCompleted() {
+        return status == TaskStatus.DONE;
     }
 
-    public String getStatus() {
+    public TaskStatus getStatus() {
         return status;
     }
 
-    public void setStatus(String status) {
+    public void setStatus(TaskStatus status) {
         this.status = status;
-        syncCompletedWithStatus();
     }
 
     public LocalDateTime getDueDate() {
@@ -140,18 +144,26 @@ public class Task {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "Task{" +
                 "id=" + id +
-                ", uniqueId='" + uniqueId + '\'' +
+                ", uniqueId=" + uniqueId +
                 ", title='" + title + '\'' +
                 ", description='" + description + '\'' +
-                ", completed=" + completed +
-                ", status='" + status + '\'' +
+                ", status=" + status +
                 ", dueDate=" + dueDate +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
+                ", version=" + version +
                 '}';
     }
 }
@@ -0,0 +1,72 @@
+package com.taskmanagement.model;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Task attributes that can be selected with {@code ?fields=} on the task list.
+ * The property name is both the JSON name and the entity attribute, so it can
+ * be used as-is in JPQL. The exception is {@link #COMPLETED}, which is derived
+ * from the status; see {@link #column()}.
+ */
+public enum TaskField {
+    ID("id"),
+    UNIQUE_ID("uniqueId"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    COMPLETED("completed"),
+    STATUS("status"),
+    DUE_DATE("dueDate"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    VERSION("version");
+
+    /** Default for the list endpoint: enough to render a row. */
+    public static final Set<TaskField> SUMMARY =
+            Collections.unmodifiableSet(EnumSet.of(ID, TITLE, STATUS, DUE_DATE));
+
+    public static final Set<TaskField> ALL = Collections.unmodifiableSet(EnumSet.allOf(TaskField.class));
+
+    private final String property;
+
+    TaskField(String property) {
+        this.property = property;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    /** The stored field this one is read from: itself, or the status for {@link #COMPLETED}. */
+    public TaskField column() {
+        return this == COMPLETED ? STATUS : this;
+    }
+
+    /**
+     * Parses a comma-separated list of property names. Null or blank gives
+     * {@link #SUMMARY}; {@code all} gives every field.
+     */
+    public static Set<TaskField> fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return SUMMARY;
+        }
+        if ("all".equalsIgnoreCase(value.trim())) {
+            return ALL;
+        }
+        Set<TaskField> fields = EnumSet.noneOf(TaskField.class);
+        for (String name : value.split(",")) {
+            fields.add(fromProperty(name.trim()));
+        }
+        return Collections.unmodifiableSet(fields);
+    }
+
+    private static TaskField fromProperty(String name) {
+        for (TaskField field : values()) {
+            if (field.property.equalsIgnoreCase(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported field: " + name);
+    }
+}
@@ -0,0 +1,69 @@
+package com.taskmanagement.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * An {@code Idempotency-Key} sent with a task create, recorded with the task it
+ * created so that a retry of the same request returns that task.
+ */
+@Entity
+@Table(name = "task_idempotency_keys")
+public class TaskIdempotencyKey {
+
+    @Id
+    @Column(name = "idempotency_key", length = 255)
+    private String key;
+
+    /** Hash of the request body, to tell a retry from a different request reusing the key. */
+    @Column(nullable = false)
+    private int requestHash;
+
+    @Column(nullable = false)
+    private Long taskId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public TaskIdempotencyKey() {
+    }
+
+    public TaskIdempotencyKey(String key, int requestHash, Long taskId, LocalDateTime createdAt) {
+        this.key = key;
+        this.requestHash = requestHash;
+        this.taskId = taskId;
+        this.createdAt = createdAt;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getRequestHash() {
+        return requestHash;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    /** Reuses an expired key for a new task. */
+    public void reassign(int requestHash, Long taskId, LocalDateTime createdAt) {
+        this.requestHash = requestHash;
+        this.taskId = taskId;
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskIdempotencyKey{" +
+                "key='" + key + '\'' +
+                ", taskId=" + taskId +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
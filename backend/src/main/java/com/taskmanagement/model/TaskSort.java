@@ -0,0 +1,55 @@
+package com.taskmanagement.model;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Orderings supported by the task list endpoint. Each ordering ends with the
+ * primary key so it is total, which is what keyset pagination relies on.
+ */
+public enum TaskSort {
+    /** id ascending (insertion order). */
+    ID,
+    /** updatedAt descending, then id descending. */
+    UPDATED,
+    /** dueDate ascending with nulls last, then id ascending. */
+    DUE,
+    /** status (TODO, IN_PROGRESS, DONE), then updatedAt descending, then id descending. */
+    STATUS;
+
+    /** Columns a cursor for this ordering is built from, besides the id. */
+    public Set<TaskField> keyFields() {
+        switch (this) {
+            case UPDATED:
+                return EnumSet.of(TaskField.UPDATED_AT);
+            case DUE:
+                return EnumSet.of(TaskField.DUE_DATE);
+            case STATUS:
+                return EnumSet.of(TaskField.STATUS, TaskField.UPDATED_AT);
+            case ID:
+            default:
+                return EnumSet.noneOf(TaskField.class);
+        }
+    }
+
+    public static TaskSort fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return ID;
+        }
+        switch (value.trim().toLowerCase()) {
+            case "id":
+                return ID;
+            case "date":
+            case "updated":
+            case "updatedat":
+                return UPDATED;
+            case "due":
+            case "duedate":
+                return DUE;
+            case "status":
+                return STATUS;
+            default:
+                throw new IllegalArgumentException("Unsupported sort: " + value);
+        }
+    }
+}
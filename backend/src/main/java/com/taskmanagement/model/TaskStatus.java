@@ -0,0 +1,35 @@
+package com.taskmanagement.model;
+
+/**
+ * Workflow state of a task, in board order.
+ *
+ * <p>Stored as its ordinal in a {@code TINYINT} column, so the declaration
+ * order is part of the schema: add new states at the end and never reorder or
+ * remove one without a migration. The {@code status} sort and its index rely
+ * on ascending ordinal being board order.
+ */
+public enum TaskStatus {
+    TODO,
+    IN_PROGRESS,
+    DONE;
+
+    public boolean isOpen() {
+        return this != DONE;
+    }
+
+    /**
+     * Parses a {@code ?status=} value, ignoring case. Null or blank means no
+     * filter and gives null.
+     */
+    public static TaskStatus fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        for (TaskStatus status : values()) {
+            if (status.name().equalsIgnoreCase(value.trim())) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported status: " + value);
+    }
+}
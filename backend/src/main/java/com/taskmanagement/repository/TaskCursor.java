@@ -0,0 +1,71 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskSort;
+import com.taskmanagement.model.TaskStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a page in a given {@link TaskSort}. Clients only
+ * ever see the encoded form, which is an opaque URL-safe token.
+ */
+public record TaskCursor(TaskSort sort, Long id, LocalDateTime updatedAt, LocalDateTime dueDate, TaskStatus status) {
+
+    private static final String SEPARATOR = "|";
+    private static final String NULL = "~";
+
+    public static TaskCursor after(TaskSort sort, Task task) {
+        return new TaskCursor(sort, task.getId(), task.getUpdatedAt(), task.getDueDate(), task.getStatus());
+    }
+
+    public static TaskCursor after(TaskSort sort, TaskProjection task) {
+        return new TaskCursor(sort, task.getId(), task.getUpdatedAt(), task.getDueDate(), task.getStatus());
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+                sort.name(),
+                String.valueOf(id),
+                format(updatedAt),
+                format(dueDate),
+                status == null ? NULL : status.name());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String token, TaskSort expectedSort) {
+        TaskCursor cursor = parseToken(token);
+        if (cursor.sort() != expectedSort) {
+            throw new IllegalArgumentException("Cursor does not match sort " + expectedSort.name().toLowerCase());
+        }
+        return cursor;
+    }
+
+    private static TaskCursor parseToken(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 5) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new TaskCursor(TaskSort.valueOf(parts[0]),
+                    Long.valueOf(parts[1]),
+                    parse(parts[2]),
+                    parse(parts[3]),
+                    NULL.equals(parts[4]) ? null : TaskStatus.valueOf(parts[4]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private static String format(LocalDateTime value) {
+        return value == null ? NULL : value.toString();
+    }
+
+    private static LocalDateTime parse(String value) {
+        return NULL.equals(value) ? null : LocalDateTime.parse(value);
+    }
+}
@@ -0,0 +1,18 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.TaskIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface TaskIdempotencyKeyRepository extends JpaRepository<TaskIdempotencyKey, String> {
+
+    @Modifying
+    @Query("DELETE FROM TaskIdempotencyKey k WHERE k.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,47 @@
+package com.taskmanagement.repository;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.taskmanagement.model.TaskField;
+import com.taskmanagement.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A task read with only some of its columns. {@code values} may hold more than
+ * {@code fields} (the id, version and sort key are always read, for cursors and
+ * ETags), but only {@code fields} are serialised.
+ */
+public record TaskProjection(Set<TaskField> fields, Map<TaskField, Object> values) {
+
+    public Long getId() {
+        return (Long) values.get(TaskField.ID);
+    }
+
+    public Long getVersion() {
+        return (Long) values.get(TaskField.VERSION);
+    }
+
+    public TaskStatus getStatus() {
+        return (TaskStatus) values.get(TaskField.STATUS);
+    }
+
+    public LocalDateTime getDueDate() {
+        return (LocalDateTime) values.get(TaskField.DUE_DATE);
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return (LocalDateTime) values.get(TaskField.UPDATED_AT);
+    }
+
+    @JsonValue
+    public Map<String, Object> toJson() {
+        Map<String, Object> json = new LinkedHashMap<>();
+        for (TaskField field : fields) {
+            json.put(field.property(), values.get(field));
+        }
+        return json;
+    }
+}
@@ -1,9 +1,75 @@
 package com.taskmanagement.repository;
 
 import com.taskmanagement.model.Task;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
+
+    /**
+     * Streams every task in id order through a server-side cursor. Must be
+     * consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t FROM Task t ORDER BY t.id")
+    Stream<Task> streamAllByOrderByIdAsc();
+
+    /**
+     * Streams open tasks that have a due date, for the due-date index. Must be
+     * consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t FROM Task t WHERE t.status <> com.taskmanagement.model.TaskStatus.DONE AND t.dueDate IS NOT NULL")
+    Stream<Task> streamOpenWithDueDate();
+
+    /**
+     * Tasks modified strictly after ({@code updatedAt}, {@code id}) and no later
+     * than {@code upTo}, in (updatedAt, id) order.
+     */
+    @Query("SELECT t FROM Task t"
+            + " WHERE (t.updatedAt > :updatedAt OR (t.updatedAt = :updatedAt AND t.id > :id))"
+            + " AND t.updatedAt <= :upTo"
+            + " ORDER BY t.updatedAt, t.id")
+    List<Task> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") Long id,
+                                @Param("upTo") LocalDateTime upTo, Limit limit);
+
+    @Query("SELECT new com.taskmanagement.repository.TaskStatusView(t.id, t.status, t.dueDate)"
+            + " FROM Task t WHERE t.id IN :ids")
+    List<TaskStatusView> findStatusViews(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT t.status, COUNT(t) FROM Task t GROUP BY t.status")
+    List<Object[]> countByStatus();
+
+    /** Open (not DONE) tasks due before {@code to}. */
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.status <> com.taskmanagement.model.TaskStatus.DONE AND t.dueDate < :to")
+    long countOpenDueBefore(@Param("to") LocalDateTime to);
+
+    /** Open (not DONE) tasks due in {@code [from, to)}. */
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.status <> com.taskmanagement.model.TaskStatus.DONE"
+            + " AND t.dueDate >= :from AND t.dueDate < :to")
+    long countOpenDueBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /** Latest {@code updatedAt} of any task, or null when there are none. */
+    @Query("SELECT MAX(t.updatedAt) FROM Task t")
+    LocalDateTime findLastUpdatedAt();
 }
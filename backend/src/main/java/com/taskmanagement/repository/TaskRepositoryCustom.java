@@ -0,0 +1,65 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskField;
+import com.taskmanagement.model.TaskSort;
+import com.taskmanagement.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Returns up to {@code limit} tasks matching the optional filters, ordered by
+     * {@code sort} and starting strictly after {@code after} (or from the start
+     * when {@code after} is null). Only the columns for {@code fields} are read,
+     * besides the id, version and sort key.
+     */
+    List<TaskProjection> findPage(TaskStatus status, Boolean completed, TaskSort sort, TaskCursor after, int limit,
+                                  Set<TaskField> fields);
+
+    /**
+     * Writes the non-null fields of {@code changes} to the task with the given
+     * id in a single UPDATE, without loading it first. Mirrors what the entity
+     * lifecycle callbacks would do: bumps {@code updatedAt} and increments the
+     * version.
+     * When {@code expectedVersion} is non-null the row is only updated if its
+     * version still matches.
+     *
+     * @return the number of rows updated (0 when the task does not exist or
+     *         its version no longer matches)
+     */
+    int updateFields(Long id, Task changes, Long expectedVersion);
+
+    /**
+     * Like {@link #updateFields(Long, Task, Long)}, but the same statement also
+     * returns the status and due date the task had before the update.
+     *
+     * @return the task's prior status and due date, or empty when the task does
+     *         not exist or its version no longer matches
+     */
+    Optional<TaskStatusView> updateFieldsReturningPrevious(Long id, Task changes, Long expectedVersion);
+
+    /**
+     * Deletes a task with a single statement, without loading it first, and
+     * returns the status and due date it had. When {@code expectedVersion} is
+     * non-null the row is only deleted if its version still matches.
+     *
+     * @return the deleted task's status and due date, or empty when the task
+     *         does not exist or its version no longer matches
+     */
+    Optional<TaskStatusView> deleteReturningPrevious(Long id, Long expectedVersion);
+
+    /**
+     * Writes several coalesced updates of one task as a single UPDATE, for
+     * write-behind. Like {@link #updateFields} without a version check, except
+     * that the version goes up by {@code writes} (once per coalesced update) and
+     * {@code updatedAt} is set to the given time.
+     *
+     * @return the number of rows updated (0 when the task no longer exists)
+     */
+    int updateFields(Long id, Task changes, int writes, LocalDateTime updatedAt);
+}
@@ -0,0 +1,251 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskField;
+import com.taskmanagement.model.TaskSort;
+import com.taskmanagement.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Keyset (seek) pagination for the task list. Each page continues from the sort
+ * key of the previous page's last row instead of using an OFFSET, so a deep page
+ * costs the same as the first one.
+ */
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskProjection> findPage(TaskStatus status, Boolean completed, TaskSort sort, TaskCursor after,
+                                         int limit, Set<TaskField> fields) {
+        // Completed is the DONE status; as a filter of its own it pins the status
+        // like ?status=DONE does, so the same index applies.
+        if (Boolean.TRUE.equals(completed) && status == null) {
+            status = TaskStatus.DONE;
+            completed = null;
+        }
+
+        // Read only the requested columns, plus what the cursor and ETag are built from.
+        Set<TaskField> columns = EnumSet.of(TaskField.ID, TaskField.VERSION);
+        columns.addAll(sort.keyFields());
+        fields.forEach(field -> columns.add(field.column()));
+        List<TaskField> selected = new ArrayList<>(columns);
+
+        StringBuilder jpql = new StringBuilder("SELECT ");
+        jpql.append(selected.stream().map(field -> "t." + field.property()).collect(Collectors.joining(", ")));
+        jpql.append(" FROM Task t");
+        List<String> predicates = new ArrayList<>();
+        Map<String, Object> params = new HashMap<>();
+
+        if (status != null) {
+            predicates.add("t.status = :status");
+            params.put("status", status);
+        }
+        boolean openOnly = Boolean.FALSE.equals(completed);
+        if (openOnly && sort == TaskSort.DUE) {
+            // The generated is_open flag leads idx_tasks_open_due, so open tasks
+            // are one index range already in due order.
+            predicates.add("t.open = true");
+        } else if (completed != null) {
+            predicates.add(completed ? "t.status = :done" : "t.status <> :done");
+            params.put("done", TaskStatus.DONE);
+        }
+        if (after != null) {
+            predicates.add(seekPredicate(sort, after, params));
+        }
+
+        if (!predicates.isEmpty()) {
+            jpql.append(" WHERE ").append(String.join(" AND ", predicates));
+        }
+        jpql.append(" ORDER BY ").append(orderBy(sort, status, openOnly));
+
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class);
+        params.forEach(query::setParameter);
+        query.setMaxResults(limit);
+
+        List<TaskProjection> page = new ArrayList<>();
+        for (Object[] row : query.getResultList()) {
+            Map<TaskField, Object> values = new EnumMap<>(TaskField.class);
+            for (int i = 0; i < row.length; i++) {
+                values.put(selected.get(i), row[i]);
+            }
+            if (fields.contains(TaskField.COMPLETED)) {
+                values.put(TaskField.COMPLETED, values.get(TaskField.STATUS) == TaskStatus.DONE);
+            }
+            page.add(new TaskProjection(fields, values));
+        }
+        return page;
+    }
+
+    @Override
+    public int updateFields(Long id, Task changes, Long expectedVersion) {
+        return updateFields(id, changes, expectedVersion, 1, LocalDateTime.now());
+    }
+
+    @Override
+    public int updateFields(Long id, Task changes, int writes, LocalDateTime updatedAt) {
+        return updateFields(id, changes, null, writes, updatedAt);
+    }
+
+    private int updateFields(Long id, Task changes, Long expectedVersion, int writes, LocalDateTime updatedAt) {
+        Map<String, Object> params = new HashMap<>();
+        Query update = entityManager.createNativeQuery(
+                updateStatement(id, changes, expectedVersion, writes, updatedAt, params));
+        params.forEach(update::setParameter);
+        int updated = update.executeUpdate();
+        // Bulk statements bypass the persistence context; drop any stale copy.
+        entityManager.clear();
+        return updated;
+    }
+
+    @Override
+    public Optional<TaskStatusView> updateFieldsReturningPrevious(Long id, Task changes, Long expectedVersion) {
+        Map<String, Object> params = new HashMap<>();
+        String update = updateStatement(id, changes, expectedVersion, 1, LocalDateTime.now(), params);
+        return previous(id, update, params);
+    }
+
+    @Override
+    public Optional<TaskStatusView> deleteReturningPrevious(Long id, Long expectedVersion) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("id", id);
+        String delete = "DELETE FROM tasks WHERE id = :id";
+        if (expectedVersion != null) {
+            delete += " AND version = :expectedVersion";
+            params.put("expectedVersion", expectedVersion);
+        }
+        return previous(id, delete, params);
+    }
+
+    private static String updateStatement(Long id, Task changes, Long expectedVersion, int writes,
+                                          LocalDateTime updatedAt, Map<String, Object> params) {
+        List<String> assignments = new ArrayList<>();
+
+        assignments.add("version = version + :writes");
+        assignments.add("updated_at = :updatedAt");
+        params.put("writes", (long) writes);
+        params.put("updatedAt", updatedAt);
+        if (changes.getTitle() != null) {
+            assignments.add("title = :title");
+            params.put("title", changes.getTitle());
+        }
+        if (changes.getDescription() != null) {
+            assignments.add("description = :description");
+            params.put("description", changes.getDescription());
+        }
+        if (changes.getStatus() != null) {
+            // Stored as the ordinal, as the entity maps it.
+            assignments.add("status = :status");
+            params.put("status", changes.getStatus().ordinal());
+        }
+        if (changes.getDueDate() != null) {
+            assignments.add("due_date = :dueDate");
+            params.put("dueDate", changes.getDueDate());
+        }
+
+        String where = " WHERE id = :id";
+        params.put("id", id);
+        if (expectedVersion != null) {
+            where += " AND version = :expectedVersion";
+            params.put("expectedVersion", expectedVersion);
+        }
+        return "UPDATE tasks SET " + String.join(", ", assignments) + where;
+    }
+
+    /**
+     * Runs {@code write} inside an H2 {@code OLD TABLE} data change delta table,
+     * which returns the rows as they were before the write. The prior values
+     * come back from the write itself, with no read beforehand and no lock
+     * beyond the one the write takes anyway.
+     */
+    private Optional<TaskStatusView> previous(Long id, String write, Map<String, Object> params) {
+        Query query = entityManager.createNativeQuery("SELECT status, due_date FROM OLD TABLE (" + write + ")");
+        params.forEach(query::setParameter);
+        List<?> rows = query.getResultList();
+        // Bulk statements bypass the persistence context; drop any stale copy.
+        entityManager.clear();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = (Object[]) rows.get(0);
+        TaskStatus status = TaskStatus.values()[((Number) row[0]).intValue()];
+        return Optional.of(new TaskStatusView(id, status, toLocalDateTime(row[1])));
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
+    /**
+     * When a filter pins the leading column of an index, that column is repeated
+     * at the head of the ORDER BY. It does not change the result order, but H2
+     * only recognises the index as already sorted when the prefixes match.
+     */
+    private static String orderBy(TaskSort sort, TaskStatus status, boolean openOnly) {
+        switch (sort) {
+            case UPDATED:
+                return status != null
+                        ? "t.status ASC, t.updatedAt DESC, t.id DESC"
+                        : "t.updatedAt DESC, t.id DESC";
+            case DUE:
+                if (status != null) {
+                    return "t.status ASC, t.dueDate ASC NULLS LAST, t.id ASC";
+                }
+                return openOnly
+                        ? "t.open ASC, t.dueDate ASC NULLS LAST, t.id ASC"
+                        : "t.dueDate ASC NULLS LAST, t.id ASC";
+            case STATUS:
+                // Ordinals are in board order: TODO, IN_PROGRESS, DONE.
+                return "t.status ASC, t.updatedAt DESC, t.id DESC";
+            case ID:
+            default:
+                return "t.id ASC";
+        }
+    }
+
+    private static String seekPredicate(TaskSort sort, TaskCursor after, Map<String, Object> params) {
+        params.put("afterId", after.id());
+        switch (sort) {
+            case UPDATED:
+                params.put("afterUpdatedAt", after.updatedAt());
+                return "(t.updatedAt < :afterUpdatedAt"
+                        + " OR (t.updatedAt = :afterUpdatedAt AND t.id < :afterId))";
+            case DUE:
+                if (after.dueDate() == null) {
+                    return "(t.dueDate IS NULL AND t.id > :afterId)";
+                }
+                params.put("afterDueDate", after.dueDate());
+                return "(t.dueDate > :afterDueDate"
+                        + " OR (t.dueDate = :afterDueDate AND t.id > :afterId)"
+                        + " OR t.dueDate IS NULL)";
+            case STATUS:
+                params.put("afterStatus", after.status());
+                params.put("afterUpdatedAt", after.updatedAt());
+                return "(t.status > :afterStatus"
+                        + " OR (t.status = :afterStatus AND t.updatedAt < :afterUpdatedAt)"
+                        + " OR (t.status = :afterStatus AND t.updatedAt = :afterUpdatedAt AND t.id < :afterId))";
+            case ID:
+            default:
+                return "t.id > :afterId";
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * The fields of a task that the statistics counters depend on.
+ */
+public record TaskStatusView(Long id, TaskStatus status, LocalDateTime dueDate) {
+
+    public static TaskStatusView of(Task task) {
+        return new TaskStatusView(task.getId(), task.getStatus(), task.getDueDate());
+    }
+
+    public boolean isOpen() {
+        return status.isOpen();
+    }
+}
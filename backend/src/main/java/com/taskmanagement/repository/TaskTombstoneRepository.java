@@ -0,0 +1,31 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.TaskTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    /**
+     * Tombstones strictly after ({@code deletedAt}, {@code id}) and no later
+     * than {@code upTo}, in (deletedAt, id) order.
+     */
+    @Query("SELECT t FROM TaskTombstone t"
+            + " WHERE (t.deletedAt > :deletedAt OR (t.deletedAt = :deletedAt AND t.id > :id))"
+            + " AND t.deletedAt <= :upTo"
+            + " ORDER BY t.deletedAt, t.id")
+    List<TaskTombstone> findDeletedAfter(@Param("deletedAt") LocalDateTime deletedAt, @Param("id") Long id,
+                                         @Param("upTo") LocalDateTime upTo, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM TaskTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
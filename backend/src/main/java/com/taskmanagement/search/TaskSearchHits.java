@@ -0,0 +1,9 @@
+package com.taskmanagement.search;
+
+import java.util.List;
+
+/**
+ * Task ids for one page of search results, best match first.
+ */
+public record TaskSearchHits(List<Long> ids, boolean hasMore) {
+}
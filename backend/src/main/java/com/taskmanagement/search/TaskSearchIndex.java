@@ -0,0 +1,306 @@
+package com.taskmanagement.search;
+
+import com.taskmanagement.events.TaskEvent;
+import com.taskmanagement.model.Task;
+import com.taskmanagement.repository.TaskRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Embedded Lucene index over task titles and descriptions.
+ *
+ * <p>The index is rebuilt from the database at startup and then kept current
+ * from committed {@link TaskEvent}s. An index kept on disk records the state of
+ * the database when it was closed cleanly; if the database still matches at the
+ * next startup, the rebuild is skipped. Searches see writes up to the moment they
+ * start: the searcher is refreshed on demand rather than after every event, so
+ * a large batch does not reopen it thousands of times.
+ *
+ * <p>The rebuild runs while requests are already being served, so events keep
+ * arriving while rows are streamed in. A task changed or deleted by an event
+ * during the load has its streamed row skipped, as the event has the newer
+ * state; the event and the streamed row of one task are serialised on its id,
+ * as in {@code TaskDueIndex}.
+ */
+@Component
+public class TaskSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    static final String ID = "id";
+    static final String TITLE = "title";
+    static final String DESCRIPTION = "description";
+
+    /** Commit user data written on clean shutdown; see {@link #databaseState()}. */
+    private static final String DATABASE_STATE = "databaseState";
+
+    /** Title matches outrank description matches, whole words outrank prefixes. */
+    private static final float TITLE_BOOST = 2f;
+    private static final float WHOLE_WORD_BOOST = 2f;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    /** Database state recorded by the last clean shutdown, or null. */
+    private final String indexedState;
+    /** Tasks changed by an event while the index was loading; their streamed rows are stale. Null otherwise. */
+    private volatile Map<Long, Boolean> changedWhileLoading;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * @param indexPath directory to keep the index in; blank keeps it on the
+     *                  heap, so it is rebuilt on every startup.
+     */
+    public TaskSearchIndex(@Value("${tasks.search.index-path:}") String indexPath) throws IOException {
+        this.directory = indexPath.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexPath));
+        this.indexedState = DirectoryReader.indexExists(directory)
+                ? SegmentInfos.readLatestCommit(directory).getUserData().get(DATABASE_STATE)
+                : null;
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long started = System.nanoTime();
+        if (indexedState != null && indexedState.equals(databaseState())) {
+            markOpen();
+            log.info("Reusing search index with {} tasks", writer.getDocStats().numDocs);
+            return;
+        }
+        try {
+            writer.deleteAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // Events from here on are newer than the rows the stream may return;
+        // earlier ones committed before it opens, so their rows are current.
+        Map<Long, Boolean> changed = new ConcurrentHashMap<>();
+        changedWhileLoading = changed;
+        try (Stream<Task> tasks = taskRepository.streamAllByOrderByIdAsc()) {
+            tasks.forEach(task -> {
+                changed.computeIfAbsent(task.getId(), id -> {
+                    index(task);
+                    return null;
+                });
+                entityManager.detach(task);
+            });
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            changedWhileLoading = null;
+        }
+        markOpen();
+        log.info("Indexed {} tasks for search in {} ms", writer.getDocStats().numDocs,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        Map<Long, Boolean> changed = changedWhileLoading;
+        if (changed == null) {
+            apply(event);
+        } else {
+            changed.compute(event.taskId(), (id, seen) -> {
+                apply(event);
+                return Boolean.TRUE;
+            });
+        }
+    }
+
+    private void apply(TaskEvent event) {
+        if (event.type() == TaskEvent.Type.DELETED) {
+            remove(event.taskId());
+        } else {
+            index(event.task());
+        }
+    }
+
+    public void index(Task task) {
+        Document document = new Document();
+        document.add(new StringField(ID, task.getId().toString(), Field.Store.YES));
+        document.add(new TextField(TITLE, task.getTitle(), Field.Store.NO));
+        if (task.getDescription() != null) {
+            document.add(new TextField(DESCRIPTION, task.getDescription(), Field.Store.NO));
+        }
+        try {
+            writer.updateDocument(new Term(ID, task.getId().toString()), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void remove(Long taskId) {
+        try {
+            writer.deleteDocuments(new Term(ID, taskId.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Finds tasks containing every word of {@code text}, each matched as a
+     * whole word or as a prefix, ignoring case.
+     *
+     * @throws IllegalArgumentException if {@code text} contains no words
+     */
+    public TaskSearchHits search(String text, int offset, int limit) {
+        Query query = toQuery(text);
+        IndexSearcher searcher = null;
+        try {
+            searcherManager.maybeRefresh();
+            searcher = searcherManager.acquire();
+            TopDocs top = searcher.search(query, offset + limit + 1);
+            StoredFields storedFields = searcher.storedFields();
+            int end = Math.min(top.scoreDocs.length, offset + limit);
+            List<Long> ids = new ArrayList<>(Math.max(end - offset, 0));
+            for (int i = offset; i < end; i++) {
+                ids.add(Long.valueOf(storedFields.document(top.scoreDocs[i].doc).get(ID)));
+            }
+            return new TaskSearchHits(ids, top.scoreDocs.length > offset + limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (searcher != null) {
+                release(searcher);
+            }
+        }
+    }
+
+    Query toQuery(String text) {
+        Set<String> words = analyze(text);
+        if (words.isEmpty()) {
+            throw new IllegalArgumentException("Search query must contain at least one word");
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String word : words) {
+            Query anyField = new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(new Term(TITLE, word)), TITLE_BOOST * WHOLE_WORD_BOOST),
+                            BooleanClause.Occur.SHOULD)
+                    .add(new BoostQuery(new TermQuery(new Term(DESCRIPTION, word)), WHOLE_WORD_BOOST),
+                            BooleanClause.Occur.SHOULD)
+                    .add(new BoostQuery(new PrefixQuery(new Term(TITLE, word)), TITLE_BOOST),
+                            BooleanClause.Occur.SHOULD)
+                    .add(new PrefixQuery(new Term(DESCRIPTION, word)), BooleanClause.Occur.SHOULD)
+                    .build();
+            query.add(anyField, BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    private Set<String> analyze(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        try (TokenStream tokens = analyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                words.add(term.toString());
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return words;
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("Could not release index searcher", e);
+        }
+    }
+
+    /**
+     * Row count and latest {@code updatedAt}. Every write this application
+     * makes changes one of them, so if they still match what was indexed, no
+     * write happened while the index was closed.
+     */
+    private String databaseState() {
+        return taskRepository.count() + "@" + taskRepository.findLastUpdatedAt();
+    }
+
+    /**
+     * Commits without a database state, so that a crash (which skips
+     * {@link #close()}) forces a rebuild on the next startup.
+     */
+    private void markOpen() {
+        try {
+            writer.setLiveCommitData(Map.<String, String>of().entrySet());
+            writer.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        if (directory instanceof FSDirectory) {
+            try {
+                writer.setLiveCommitData(Map.of(DATABASE_STATE, databaseState()).entrySet());
+                writer.commit();
+            } catch (RuntimeException e) {
+                log.warn("Could not record database state; the search index will be rebuilt on next startup", e);
+            }
+        }
+        writer.close();
+        directory.close();
+    }
+}
@@ -0,0 +1,26 @@
+package com.taskmanagement.service;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk operation. {@code items} holds one entry per request
+ * element, in request order, so clients can match failures back to input.
+ */
+public record BatchResult(int succeeded, int failed, List<Item> items) {
+
+    public static BatchResult of(List<Item> items) {
+        int failed = (int) items.stream().filter(item -> item.error() != null).count();
+        return new BatchResult(items.size() - failed, failed, items);
+    }
+
+    public record Item(int index, Long id, String status, String error) {
+
+        public static Item ok(int index, Long id, String status) {
+            return new Item(index, id, status, null);
+        }
+
+        public static Item failed(int index, Long id, String status, String error) {
+            return new Item(index, id, status, error);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.taskmanagement.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in the changes feed: the last (updatedAt, id) of tasks and the last
+ * (deletedAt, id) of tombstones a client has seen. Ties on the timestamp are
+ * broken by id, so the position only ever moves forward even when several
+ * writes share a timestamp. Clients see it as an opaque token.
+ */
+public record ChangeWatermark(LocalDateTime taskUpdatedAt, long taskId,
+                              LocalDateTime tombstoneDeletedAt, long tombstoneId) {
+
+    public static final ChangeWatermark START =
+            new ChangeWatermark(LocalDateTime.of(1970, 1, 1, 0, 0), 0, LocalDateTime.of(1970, 1, 1, 0, 0), 0);
+
+    public String encode() {
+        String raw = taskUpdatedAt + "|" + taskId + "|" + tombstoneDeletedAt + "|" + tombstoneId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChangeWatermark decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid watermark");
+            }
+            return new ChangeWatermark(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]),
+                    LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid watermark");
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.taskmanagement.service;
+
+/**
+ * Thrown when an {@code Idempotency-Key} cannot be honoured: it was first sent
+ * with a different request, or the task it created has since been deleted.
+ * The client needs a new key.
+ */
+public class IdempotencyKeyConflictException extends RuntimeException {
+
+    public IdempotencyKeyConflictException(String message) {
+        super(message);
+    }
+}
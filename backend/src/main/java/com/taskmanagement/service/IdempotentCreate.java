@@ -0,0 +1,14 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.model.Task;
+
+/**
+ * The task an idempotent create answers with; {@code replayed} when an earlier
+ * request with the same {@code Idempotency-Key} created it.
+ */
+public record IdempotentCreate(Task task, boolean replayed) {
+
+    IdempotentCreate asReplay() {
+        return replayed ? this : new IdempotentCreate(task, true);
+    }
+}
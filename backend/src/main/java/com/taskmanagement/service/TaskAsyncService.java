@@ -0,0 +1,202 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.metrics.EndpointQueryContext;
+import com.taskmanagement.model.Task;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * The write side of {@link TaskService} as {@link CompletableFuture}s, run on a
+ * bounded pool so that request threads are not held while writes wait on the
+ * database or on a write-behind flush.
+ *
+ * <p>The pool has {@code tasks.async.threads} workers and queues at most
+ * {@code tasks.async.queue-capacity} writes behind them. A write that finds the
+ * queue full fails at once with {@link TaskServiceBusyException} instead of
+ * waiting. Per operation, {@code tasks.async.queued} shows how many writes are
+ * waiting for a worker and {@code tasks.async.wait} how long they waited, so
+ * saturation shows up before response times do.
+ */
+@Component
+public class TaskAsyncService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskAsyncService.class);
+
+    enum Operation {
+        CREATE, UPDATE, DELETE, BATCH_CREATE, BATCH_UPDATE, BATCH_DELETE;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+    }
+
+    private final ThreadPoolExecutor executor;
+    private final TaskDecorator taskDecorator;
+    private final Duration drainTimeout;
+    private final Map<Operation, OperationMeters> meters = new EnumMap<>(Operation.class);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskWriteBehind taskWriteBehind;
+
+    public TaskAsyncService(@Value("${tasks.async.threads:8}") int threads,
+                            @Value("${tasks.async.queue-capacity:500}") int queueCapacity,
+                            @Value("${tasks.async.drain-timeout:30s}") Duration drainTimeout,
+                            ObjectProvider<TaskDecorator> taskDecorator,
+                            MeterRegistry meterRegistry) {
+        AtomicInteger workers = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "task-write-" + workers.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.taskDecorator = taskDecorator.getIfUnique();
+        this.drainTimeout = drainTimeout;
+
+        Gauge.builder("tasks.async.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Workers running a write")
+                .register(meterRegistry);
+        for (Operation operation : Operation.values()) {
+            meters.put(operation, new OperationMeters(operation, meterRegistry));
+        }
+    }
+
+    public CompletableFuture<Task> createTask(Task task) {
+        return submit(Operation.CREATE, () -> taskService.createTask(task));
+    }
+
+    /** Also records the idempotency key; see {@link TaskService#createTask(Task, String, int)}. */
+    public CompletableFuture<IdempotentCreate> createTask(Task task, String idempotencyKey, int requestHash) {
+        return submit(Operation.CREATE, () -> {
+            try {
+                return taskService.createTask(task, idempotencyKey, requestHash);
+            } catch (DataIntegrityViolationException e) {
+                // The key was recorded by a concurrent request after we looked; ours rolled back.
+                return taskService.replayIdempotentCreate(idempotencyKey, requestHash, e);
+            }
+        });
+    }
+
+    /** Goes through the write-behind queue when it is enabled. */
+    public CompletableFuture<Task> updateTask(Long id, Task taskDetails, Long expectedVersion) {
+        return submit(Operation.UPDATE, () -> taskWriteBehind.isEnabled()
+                ? taskWriteBehind.update(id, taskDetails, expectedVersion)
+                : taskService.updateTask(id, taskDetails, expectedVersion));
+    }
+
+    /** Writes the task's queued updates first, so the version check sees them. */
+    public CompletableFuture<Void> deleteTask(Long id, Long expectedVersion) {
+        return submit(Operation.DELETE, () -> {
+            taskWriteBehind.flush(id);
+            taskService.deleteTask(id, expectedVersion);
+            return null;
+        });
+    }
+
+    public CompletableFuture<BatchResult> createTasks(List<Task> tasks) {
+        return submit(Operation.BATCH_CREATE, () -> taskService.createTasks(tasks));
+    }
+
+    public CompletableFuture<BatchResult> updateTasks(List<Task> patches) {
+        return submit(Operation.BATCH_UPDATE, () -> {
+            taskWriteBehind.flush();
+            return taskService.updateTasks(patches);
+        });
+    }
+
+    public CompletableFuture<BatchResult> deleteTasks(List<Long> ids) {
+        return submit(Operation.BATCH_DELETE, () -> {
+            taskWriteBehind.flush();
+            return taskService.deleteTasks(ids);
+        });
+    }
+
+    /** The future completes on the worker thread, and so do stages chained to it. */
+    private <T> CompletableFuture<T> submit(Operation operation, Supplier<T> work) {
+        OperationMeters meters = this.meters.get(operation);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long submitted = System.nanoTime();
+        Runnable task = () -> {
+            meters.queued.decrementAndGet();
+            meters.wait.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+            try {
+                result.complete(work.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        };
+        task = EndpointQueryContext.propagate(task);
+        if (taskDecorator != null) {
+            task = taskDecorator.decorate(task);
+        }
+        meters.queued.incrementAndGet();
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            meters.queued.decrementAndGet();
+            meters.rejected.increment();
+            result.completeExceptionally(new TaskServiceBusyException(executor.isShutdown()
+                    ? "Shutting down; write not accepted"
+                    : "Too many writes in progress; try again shortly"));
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.error("Shut down with {} writes still queued; they are dropped", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+
+    private static final class OperationMeters {
+
+        final AtomicInteger queued = new AtomicInteger();
+        final Timer wait;
+        final Counter rejected;
+
+        OperationMeters(Operation operation, MeterRegistry meterRegistry) {
+            Gauge.builder("tasks.async.queued", queued, AtomicInteger::get)
+                    .description("Writes waiting for a worker")
+                    .tag("operation", operation.tag())
+                    .register(meterRegistry);
+            this.wait = Timer.builder("tasks.async.wait")
+                    .description("Time a write waited for a worker")
+                    .tag("operation", operation.tag())
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("tasks.async.rejected")
+                    .description("Writes rejected because the queue was full")
+                    .tag("operation", operation.tag())
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.model.Task;
+
+import java.util.List;
+
+/**
+ * One response of the changes feed. Clients apply {@code changed} (upserts)
+ * before {@code deleted} (task ids), store {@code watermark} for the next call,
+ * and call again straight away while {@code hasMore} is true.
+ */
+public record TaskChanges(List<Task> changed, List<Long> deleted, String watermark, boolean hasMore) {
+}
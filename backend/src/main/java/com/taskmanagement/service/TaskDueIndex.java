@@ -0,0 +1,217 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.events.TaskEvent;
+import com.taskmanagement.model.Task;
+import com.taskmanagement.repository.TaskRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * Open tasks ({@code status <> DONE}) that have a due date, held in memory in
+ * due-date order, so that "overdue" and "due in the next N hours" are range
+ * scans that never reach the database.
+ *
+ * <p>The index is loaded from the database at startup and then kept current
+ * from committed {@link TaskEvent}s: a task enters it when it gets a due date
+ * or is reopened, and leaves it when it is completed, loses its due date or is
+ * deleted. Queries before the load has finished fail with
+ * {@link TaskDueIndexLoadingException}. Updates still queued for write-behind
+ * show up once they are flushed, as in task lists.
+ *
+ * <p>Events from different threads can arrive out of order, so each change is
+ * checked against the task's version. A task that leaves the index leaves a
+ * tombstone with the version that removed it, or with {@link #DELETED} when it
+ * was deleted. A late event older than the tombstone then cannot put the task
+ * back. Tombstones are purged after {@code tasks.due.tombstone-retention},
+ * which only needs to outlast how far events can be reordered.
+ *
+ * <p>Tasks are kept in a {@link ConcurrentSkipListMap} keyed by (dueDate, id),
+ * with each task's current key in a {@link ConcurrentHashMap} so a change can
+ * find and move its entry. Changes to one task are serialised on its id; scans
+ * take no lock and are weakly consistent, so a task being moved by a concurrent
+ * write may be missing from a scan that passes it at that moment.
+ */
+@Component
+public class TaskDueIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskDueIndex.class);
+
+    record DueKey(LocalDateTime dueDate, long id) implements Comparable<DueKey> {
+
+        private static final Comparator<DueKey> ORDER =
+                Comparator.comparing(DueKey::dueDate).thenComparingLong(DueKey::id);
+
+        /** Sorts before every task due at {@code dueDate}. */
+        static DueKey first(LocalDateTime dueDate) {
+            return new DueKey(dueDate, Long.MIN_VALUE);
+        }
+
+        @Override
+        public int compareTo(DueKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    /** A task that left the index, and the version that removed it. */
+    private record Tombstone(long version, long removedAt) {
+    }
+
+    /** Tombstone version of a deleted task; no later event may bring it back. */
+    private static final long DELETED = Long.MAX_VALUE;
+
+    private final ConcurrentSkipListMap<DueKey, Task> byDueDate = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Long, DueKey> keys = new ConcurrentHashMap<>();
+    /** Changed under {@code keys.compute} for the same id, apart from the purge of expired ones. */
+    private final ConcurrentHashMap<Long, Tombstone> tombstones = new ConcurrentHashMap<>();
+    private final long tombstoneRetentionMillis;
+    /** Tasks that left the index while it was loading; their loaded rows are stale. Null once loaded. */
+    private volatile Set<Long> removedWhileLoading = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public TaskDueIndex(MeterRegistry meterRegistry,
+                        @Value("${tasks.due.tombstone-retention:1m}") Duration tombstoneRetention) {
+        this.tombstoneRetentionMillis = tombstoneRetention.toMillis();
+        Gauge.builder("tasks.due.indexed", keys, Map::size)
+                .description("Open tasks with a due date in the due-date index")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long started = System.nanoTime();
+        Set<Long> removed = removedWhileLoading;
+        try (Stream<Task> tasks = taskRepository.streamOpenWithDueDate()) {
+            tasks.forEach(task -> {
+                entityManager.detach(task);
+                // An event since the load began has the newer state of this task.
+                if (!removed.contains(task.getId())) {
+                    keys.computeIfAbsent(task.getId(), id -> {
+                        DueKey key = new DueKey(task.getDueDate(), id);
+                        byDueDate.put(key, task);
+                        return key;
+                    });
+                }
+            });
+        }
+        removedWhileLoading = null;
+        log.info("Indexed {} open tasks by due date in {} ms", keys.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        Task task = event.task();
+        if (task == null) {
+            remove(event.taskId(), DELETED);
+        } else if (!task.isCompleted() && task.getDueDate() != null) {
+            put(task);
+        } else {
+            remove(event.taskId(), task.getVersion() != null ? task.getVersion() : 0);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.due.tombstone-purge-interval:PT1M}")
+    public void purgeTombstones() {
+        long cutoff = System.currentTimeMillis() - tombstoneRetentionMillis;
+        tombstones.values().removeIf(tombstone -> tombstone.removedAt() < cutoff);
+    }
+
+    /**
+     * Open tasks due at or after {@code after} and before {@code before}, in
+     * due-date order, at most {@code limit} of them plus one to tell whether
+     * there are more. Either bound may be null.
+     */
+    public List<Task> find(LocalDateTime after, LocalDateTime before, int limit) {
+        if (removedWhileLoading != null) {
+            throw new TaskDueIndexLoadingException();
+        }
+        NavigableMap<DueKey, Task> range = byDueDate;
+        if (after != null) {
+            range = range.tailMap(DueKey.first(after), true);
+        }
+        if (before != null) {
+            range = range.headMap(DueKey.first(before), false);
+        }
+        List<Task> tasks = new ArrayList<>(Math.min(limit + 1, 1024));
+        for (Task task : range.values()) {
+            tasks.add(task);
+            if (tasks.size() > limit) {
+                break;
+            }
+        }
+        return tasks;
+    }
+
+    private void put(Task task) {
+        keys.compute(task.getId(), (id, current) -> {
+            Tombstone tombstone = tombstones.get(id);
+            if (tombstone != null && (tombstone.version() == DELETED
+                    || task.getVersion() != null && task.getVersion() <= tombstone.version())) {
+                return current;
+            }
+            Task indexed = current == null ? null : byDueDate.get(current);
+            if (indexed != null && isNewer(indexed, task.getVersion())) {
+                return current;
+            }
+            DueKey key = new DueKey(task.getDueDate(), id);
+            if (current != null && !current.equals(key)) {
+                byDueDate.remove(current);
+            }
+            byDueDate.put(key, task);
+            tombstones.remove(id);
+            return key;
+        });
+    }
+
+    private void remove(Long id, long version) {
+        Set<Long> removed = removedWhileLoading;
+        if (removed != null) {
+            removed.add(id);
+        }
+        keys.compute(id, (ignored, current) -> {
+            Task indexed = current == null ? null : byDueDate.get(current);
+            if (indexed != null && isNewer(indexed, version)) {
+                return current;
+            }
+            if (current != null) {
+                byDueDate.remove(current);
+            }
+            tombstones.merge(id, new Tombstone(version, System.currentTimeMillis()),
+                    (older, newer) -> older.version() >= newer.version() ? older : newer);
+            return null;
+        });
+    }
+
+    private static boolean isNewer(Task indexed, Long version) {
+        return indexed.getVersion() != null && version != null && indexed.getVersion() > version;
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskmanagement.service;
+
+/**
+ * Thrown by {@link TaskDueIndex} when it is queried before its startup load
+ * has finished. The client should retry shortly.
+ */
+public class TaskDueIndexLoadingException extends RuntimeException {
+
+    public TaskDueIndexLoadingException() {
+        super("Due-date index is still loading; try again shortly");
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.model.Task;
+
+import java.util.List;
+
+/**
+ * Open tasks in a due-date range, soonest first. {@code hasMore} is true when
+ * the range holds more tasks than were returned; narrow it to see the rest.
+ */
+public record TaskDueResults(List<Task> items, boolean hasMore) {
+}
@@ -0,0 +1,227 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.model.Task;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Deduplicates {@code POST /api/tasks} by the client's {@code Idempotency-Key}.
+ *
+ * <p>The first request with a key creates the task. A repeat with the same key
+ * and the same body within {@code tasks.idempotency.ttl} gets that task back
+ * instead of creating another; a repeat that arrives while the first is still
+ * running waits for it, so concurrent duplicates share one insert. Reusing a
+ * key with a different body fails with {@link IdempotencyKeyConflictException}.
+ * Failed creates are forgotten, so the client can retry them with the same key.
+ *
+ * <p>Keys live in {@code LOCK_STRIPES} insertion-ordered maps, each guarded by
+ * its own lock, so a lookup is one hash probe under one stripe lock. At most
+ * {@code tasks.idempotency.max-keys} completed keys are kept; once a stripe is
+ * full its oldest key is dropped even if it has not expired. With
+ * {@code tasks.idempotency.database=true} keys are also recorded in the
+ * {@code task_idempotency_keys} table in the same transaction as the task, so
+ * they outlive eviction and restarts.
+ */
+@Component
+public class TaskIdempotencyStore {
+
+    private static final int LOCK_STRIPES = 64;
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final long ttlNanos;
+    private final boolean database;
+    private final int stripeCapacity;
+    private final Stripe[] stripes;
+    private final Counter replayed;
+    private final Counter joined;
+    private final Counter evicted;
+
+    @Autowired
+    private TaskAsyncService taskAsyncService;
+
+    public TaskIdempotencyStore(@Value("${tasks.idempotency.ttl:24h}") Duration ttl,
+                                @Value("${tasks.idempotency.max-keys:50000}") int maxKeys,
+                                @Value("${tasks.idempotency.database:false}") boolean database,
+                                MeterRegistry meterRegistry) {
+        if (maxKeys < 1) {
+            throw new IllegalArgumentException("tasks.idempotency.max-keys must be at least 1");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.database = database;
+        this.stripes = new Stripe[Math.min(LOCK_STRIPES, maxKeys)];
+        this.stripeCapacity = (maxKeys + stripes.length - 1) / stripes.length;
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+
+        Gauge.builder("tasks.idempotency.keys", this, TaskIdempotencyStore::size)
+                .description("Idempotency keys held in memory")
+                .register(meterRegistry);
+        this.replayed = Counter.builder("tasks.idempotency.replayed")
+                .description("Creates answered with the task of an earlier request")
+                .register(meterRegistry);
+        this.joined = Counter.builder("tasks.idempotency.joined")
+                .description("Creates that waited for an in-flight request with the same key")
+                .register(meterRegistry);
+        this.evicted = Counter.builder("tasks.idempotency.evicted")
+                .description("Unexpired keys dropped to stay within max-keys")
+                .register(meterRegistry);
+    }
+
+    /** Creates {@code task} once per {@code key}; see the class comment. */
+    public CompletableFuture<IdempotentCreate> createTask(String key, Task task) {
+        if (key == null || key.isBlank()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Idempotency-Key cannot be empty"));
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException(
+                    "Idempotency-Key cannot be longer than " + MAX_KEY_LENGTH + " characters"));
+        }
+        int requestHash = requestHash(task);
+        Stripe stripe = stripes[Math.floorMod(key.hashCode(), stripes.length)];
+        long now = System.nanoTime();
+        Entry entry = new Entry(requestHash, new CompletableFuture<>(), now + ttlNanos);
+        Entry existing;
+        synchronized (stripe) {
+            existing = stripe.get(key);
+            if (existing != null && existing.isExpired(now)) {
+                stripe.remove(key);
+                existing = null;
+            }
+            if (existing == null) {
+                stripe.put(key, entry);
+                prune(stripe, now);
+            }
+        }
+
+        if (existing != null) {
+            if (existing.requestHash != requestHash) {
+                return CompletableFuture.failedFuture(conflict());
+            }
+            (existing.result.isDone() ? replayed : joined).increment();
+            return existing.result.thenApply(IdempotentCreate::asReplay);
+        }
+
+        CompletableFuture<IdempotentCreate> created = database
+                ? taskAsyncService.createTask(task, key, requestHash)
+                : taskAsyncService.createTask(task).thenApply(t -> new IdempotentCreate(t, false));
+        created.whenComplete((result, error) -> {
+            if (error != null) {
+                // Forget the key before answering, so the client's retry runs again.
+                synchronized (stripe) {
+                    stripe.remove(key, entry);
+                }
+                entry.result.completeExceptionally(error);
+            } else {
+                if (result.replayed()) {
+                    replayed.increment();
+                }
+                entry.result.complete(result);
+            }
+        });
+        return entry.result;
+    }
+
+    /** Drops expired keys from memory; the table is purged by {@link TaskService}. */
+    @Scheduled(fixedDelayString = "${tasks.idempotency.purge-interval:PT1H}")
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                prune(stripe, now);
+            }
+        }
+    }
+
+    /**
+     * The first four bytes of a SHA-256 over the request's fields. It is
+     * recorded with database keys, so unlike {@code hashCode()} (an identity
+     * hash for the status enum) it must be the same in every JVM. Each field is
+     * written as a null marker or its UTF-8 length and bytes, so different
+     * field splits cannot collide.
+     */
+    static int requestHash(Task task) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        String status = task.getStatus() == null ? null : task.getStatus().name();
+        String dueDate = task.getDueDate() == null ? null : task.getDueDate().toString();
+        for (String field : new String[] {task.getTitle(), task.getDescription(), status, dueDate}) {
+            if (field == null) {
+                digest.update((byte) 0);
+            } else {
+                byte[] bytes = field.getBytes(StandardCharsets.UTF_8);
+                digest.update((byte) 1);
+                digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+                digest.update(bytes);
+            }
+        }
+        return ByteBuffer.wrap(digest.digest()).getInt();
+    }
+
+    static IdempotencyKeyConflictException conflict() {
+        return new IdempotencyKeyConflictException("Idempotency-Key was already used for a different request");
+    }
+
+    /**
+     * Removes expired keys from the head of the stripe, then the oldest completed
+     * keys while it is over capacity. Keys still in flight are never dropped;
+     * there are at most as many of them as the write pool holds.
+     */
+    private void prune(Stripe stripe, long now) {
+        int excess = stripe.size() - stripeCapacity;
+        Iterator<Entry> entries = stripe.values().iterator();
+        while (entries.hasNext()) {
+            Entry entry = entries.next();
+            boolean expired = entry.isExpired(now);
+            if (!expired && excess <= 0) {
+                break;
+            }
+            if (expired || entry.result.isDone()) {
+                entries.remove();
+                excess--;
+                if (!expired) {
+                    evicted.increment();
+                }
+            }
+        }
+    }
+
+    private double size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    /** Keys in insertion order, which is also expiry order. Guarded by its own monitor. */
+    private static final class Stripe extends LinkedHashMap<String, Entry> {
+    }
+
+    private record Entry(int requestHash, CompletableFuture<IdempotentCreate> result, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return result.isDone() && now - expiresAt > 0;
+        }
+    }
+}
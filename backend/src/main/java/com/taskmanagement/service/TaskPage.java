@@ -0,0 +1,11 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.repository.TaskProjection;
+
+import java.util.List;
+
+/**
+ * One page of the task list. {@code nextCursor} is null on the last page.
+ */
+public record TaskPage(List<TaskProjection> items, String nextCursor) {
+}
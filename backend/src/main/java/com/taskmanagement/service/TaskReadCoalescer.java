@@ -0,0 +1,126 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.events.TaskEvent;
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskField;
+import com.taskmanagement.model.TaskSort;
+import com.taskmanagement.model.TaskStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for task reads: concurrent identical reads share one database
+ * load instead of each running their own. The first caller for a task id or
+ * list query runs the load, and callers that arrive while it is in flight wait
+ * for its result.
+ *
+ * <p>In-flight loads are kept in a {@link ConcurrentHashMap}, so starting or
+ * joining one takes no lock. Nothing is kept once a load finishes; this is not
+ * a cache. Once a task write has committed, later reads start a new load
+ * rather than join one that may have read the rows before the write.
+ *
+ * <p>{@code tasks.reads.loads} counts the loads run and
+ * {@code tasks.reads.coalesced} the reads that joined one instead, both tagged
+ * {@code get} or {@code list}.
+ */
+@Component
+public class TaskReadCoalescer {
+
+    /** A task list query, as {@link TaskService#getTasks} resolves it. */
+    record PageQuery(TaskStatus status, Boolean completed, TaskSort sort, Set<TaskField> fields,
+                     String cursor, int limit) {
+    }
+
+    private final SingleFlight<Long, Optional<Task>> tasks;
+    private final SingleFlight<PageQuery, TaskPage> pages;
+
+    public TaskReadCoalescer(MeterRegistry meterRegistry) {
+        this.tasks = new SingleFlight<>("get", meterRegistry);
+        this.pages = new SingleFlight<>("list", meterRegistry);
+    }
+
+    Optional<Task> getTask(Long id, Supplier<Optional<Task>> load) {
+        return tasks.run(id, load);
+    }
+
+    TaskPage getPage(PageQuery query, Supplier<TaskPage> load) {
+        return pages.run(query, load);
+    }
+
+    /** Any write can change any list, so it retires every list load in flight. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        tasks.forget(event.taskId());
+        pages.forgetAll();
+    }
+
+    private static final class SingleFlight<K, V> {
+
+        private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+        private final Counter loads;
+        private final Counter coalesced;
+
+        SingleFlight(String operation, MeterRegistry meterRegistry) {
+            this.loads = Counter.builder("tasks.reads.loads")
+                    .description("Task reads that ran a database load")
+                    .tag("operation", operation)
+                    .register(meterRegistry);
+            this.coalesced = Counter.builder("tasks.reads.coalesced")
+                    .description("Task reads that shared a load already in flight")
+                    .tag("operation", operation)
+                    .register(meterRegistry);
+        }
+
+        V run(K key, Supplier<V> load) {
+            CompletableFuture<V> mine = new CompletableFuture<>();
+            CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+            if (running != null) {
+                coalesced.increment();
+                return await(running);
+            }
+            loads.increment();
+            try {
+                V value = load.get();
+                mine.complete(value);
+                return value;
+            } catch (Throwable e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, mine);
+            }
+        }
+
+        void forget(K key) {
+            inFlight.remove(key);
+        }
+
+        void forgetAll() {
+            inFlight.clear();
+        }
+
+        /** Rethrows the load's own exception, as the caller that ran it saw it. */
+        private static <V> V await(CompletableFuture<V> running) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.model.Task;
+
+import java.util.List;
+
+/**
+ * One page of search results, best match first. {@code nextOffset} is null on
+ * the last page.
+ */
+public record TaskSearchResults(List<Task> items, Integer nextOffset) {
+}
@@ -1,35 +1,525 @@
 package com.taskmanagement.service;
 
+import com.taskmanagement.config.CacheConfig;
+import com.taskmanagement.events.TaskEvent;
 import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskField;
+import com.taskmanagement.model.TaskIdempotencyKey;
+import com.taskmanagement.model.TaskSort;
+import com.taskmanagement.model.TaskStatus;
+import com.taskmanagement.model.TaskTombstone;
+import com.taskmanagement.repository.TaskCursor;
+import com.taskmanagement.repository.TaskIdempotencyKeyRepository;
+import com.taskmanagement.repository.TaskProjection;
 import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TaskStatusView;
+import com.taskmanagement.repository.TaskTombstoneRepository;
+import com.taskmanagement.search.TaskSearchHits;
+import com.taskmanagement.search.TaskSearchIndex;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "tasks.service", description = "TaskService method calls", histogram = true)
 public class TaskService {
 
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Autowired
+    private TaskIdempotencyKeyRepository taskIdempotencyKeyRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TaskStatistics taskStatistics;
+
+    @Autowired
+    private TaskWriteTracker taskWriteTracker;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private TaskReadCoalescer taskReadCoalescer;
+
+    @Autowired
+    private TaskDueIndex taskDueIndex;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${tasks.page.default-limit:100}")
+    private int defaultPageLimit = 100;
+
+    @Value("${tasks.page.max-limit:1000}")
+    private int maxPageLimit = 1000;
+
+    @Value("${tasks.search.max-results:10000}")
+    private int maxSearchResults = 10000;
+
+    @Value("${tasks.batch.max-items:10000}")
+    private int maxBatchItems = 10000;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int jdbcBatchSize = 50;
+
+    @Value("${tasks.changes.tombstone-retention:7d}")
+    private Duration tombstoneRetention = Duration.ofDays(7);
+
+    @Value("${tasks.idempotency.ttl:24h}")
+    private Duration idempotencyTtl = Duration.ofHours(24);
+
     public List<Task> getAllTasks() {
         return taskRepository.findAll();
     }
 
+    public TaskPage getTasks(TaskStatus status, Boolean completed, TaskSort sort, Set<TaskField> fields,
+                             String cursor, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        TaskCursor after = cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor, sort);
+
+        // Concurrent requests for the same page share one query.
+        TaskReadCoalescer.PageQuery query =
+                new TaskReadCoalescer.PageQuery(status, completed, sort, fields, cursor, pageSize);
+        return taskReadCoalescer.getPage(query, () -> loadPage(status, completed, sort, fields, after, pageSize));
+    }
+
+    private TaskPage loadPage(TaskStatus status, Boolean completed, TaskSort sort, Set<TaskField> fields,
+                              TaskCursor after, int pageSize) {
+        // Fetch one extra row to learn whether another page exists without a COUNT.
+        List<TaskProjection> rows = taskRepository.findPage(status, completed, sort, after, pageSize + 1, fields);
+        if (rows.size() <= pageSize) {
+            return new TaskPage(rows, null);
+        }
+        List<TaskProjection> items = rows.subList(0, pageSize);
+        return new TaskPage(items, TaskCursor.after(sort, items.get(pageSize - 1)).encode());
+    }
+
+    /**
+     * Returns tasks modified and tasks deleted after {@code since} (or from the
+     * beginning when null), at most {@code limit} of each.
+     *
+     * <p>Only rows stamped up to {@link TaskWriteTracker#horizon()} are
+     * returned. A write stamps {@code updatedAt} before it commits, so reading
+     * past the oldest unfinished write could move the watermark past a row that
+     * becomes visible later, however long that write takes.
+     */
+    @Transactional(readOnly = true)
+    public TaskChanges getChanges(String since, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        LocalDateTime now = LocalDateTime.now();
+        ChangeWatermark from = ChangeWatermark.START;
+        if (since != null && !since.isBlank()) {
+            from = ChangeWatermark.decode(since);
+            if (from.tombstoneDeletedAt().isBefore(now.minus(tombstoneRetention))) {
+                throw new WatermarkExpiredException();
+            }
+        }
+        LocalDateTime upTo = taskWriteTracker.horizon();
+
+        List<Task> changed = taskRepository.findChangedAfter(
+                from.taskUpdatedAt(), from.taskId(), upTo, Limit.of(pageSize));
+        List<TaskTombstone> tombstones = taskTombstoneRepository.findDeletedAfter(
+                from.tombstoneDeletedAt(), from.tombstoneId(), upTo, Limit.of(pageSize));
+        boolean moreChanged = changed.size() == pageSize;
+        boolean moreDeleted = tombstones.size() == pageSize;
+
+        LocalDateTime taskUpdatedAt = from.taskUpdatedAt();
+        long taskId = from.taskId();
+        if (!changed.isEmpty()) {
+            Task last = changed.get(changed.size() - 1);
+            taskUpdatedAt = last.getUpdatedAt();
+            taskId = last.getId();
+        }
+        // Everything up to upTo has been returned, so the watermark can move up
+        // to it; idle clients then keep advancing instead of aging out. The id
+        // sits after every row stamped exactly at upTo, which were returned too.
+        if (!moreChanged && taskUpdatedAt.isBefore(upTo)) {
+            taskUpdatedAt = upTo;
+            taskId = Long.MAX_VALUE;
+        }
+
+        LocalDateTime deletedAt = from.tombstoneDeletedAt();
+        long tombstoneId = from.tombstoneId();
+        if (!tombstones.isEmpty()) {
+            TaskTombstone last = tombstones.get(tombstones.size() - 1);
+            deletedAt = last.getDeletedAt();
+            tombstoneId = last.getId();
+        }
+        if (!moreDeleted && deletedAt.isBefore(upTo)) {
+            deletedAt = upTo;
+            tombstoneId = Long.MAX_VALUE;
+        }
+
+        List<Long> deleted = tombstones.stream().map(TaskTombstone::getTaskId).toList();
+        ChangeWatermark watermark = new ChangeWatermark(taskUpdatedAt, taskId, deletedAt, tombstoneId);
+        return new TaskChanges(changed, deleted, watermark.encode(), moreChanged || moreDeleted);
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.changes.tombstone-purge-interval:PT1H}")
+    @Transactional
+    public void purgeTombstones() {
+        taskTombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(tombstoneRetention));
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.idempotency.purge-interval:PT1H}")
+    @Transactional
+    public void purgeIdempotencyKeys() {
+        taskIdempotencyKeyRepository.deleteOlderThan(LocalDateTime.now().minus(idempotencyTtl));
+    }
+
+    /**
+     * Open tasks due at or after {@code after} and before {@code before}
+     * (ISO-8601 local date-times, either may be omitted), soonest first. Served
+     * from {@link TaskDueIndex} without querying the database.
+     */
+    public TaskDueResults getTasksDue(String after, String before, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        LocalDateTime from = parseDateTime("after", after);
+        LocalDateTime to = parseDateTime("before", before);
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("after must be earlier than before");
+        }
+        List<Task> tasks = taskDueIndex.find(from, to, pageSize);
+        if (tasks.size() <= pageSize) {
+            return new TaskDueResults(tasks, false);
+        }
+        return new TaskDueResults(tasks.subList(0, pageSize), true);
+    }
+
+    /**
+     * Ranked full-text search over title and description. Results are paged by
+     * offset, up to {@code tasks.search.max-results} deep.
+     */
+    public TaskSearchResults searchTasks(String query, Integer offset, Integer limit) {
+        if (isBlank(query)) {
+            throw new IllegalArgumentException("Search query cannot be empty");
+        }
+        int pageSize = resolvePageSize(limit);
+        int start = offset == null ? 0 : offset;
+        if (start < 0) {
+            throw new IllegalArgumentException("Offset cannot be negative");
+        }
+        if (start + pageSize > maxSearchResults) {
+            throw new IllegalArgumentException("Search results are limited to the first " + maxSearchResults);
+        }
+
+        TaskSearchHits hits = taskSearchIndex.search(query, start, pageSize);
+        Map<Long, Task> tasks = taskRepository.findAllById(hits.ids()).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        // A task deleted since the searcher was opened is simply left out.
+        List<Task> items = hits.ids().stream()
+                .map(tasks::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new TaskSearchResults(items, hits.hasMore() ? start + pageSize : null);
+    }
+
+    public TaskStats getStats() {
+        return taskStatistics.snapshot();
+    }
+
+    /**
+     * Hands every task to {@code sink} in id order. Rows are read through a
+     * database cursor and detached once written, so the persistence context
+     * never holds more than one task regardless of table size.
+     */
+    @Transactional(readOnly = true)
+    public void exportTasks(Consumer<Task> sink) {
+        try (Stream<Task> tasks = taskRepository.streamAllByOrderByIdAsc()) {
+            tasks.forEach(task -> {
+                sink.accept(task);
+                entityManager.detach(task);
+            });
+        }
+    }
+
+    /**
+     * Read-through cached. {@code sync} makes concurrent misses for the same id
+     * share one load; writes below evict the entry once they commit. Misses are
+     * cached too, which is why creating a task evicts its id. The load itself
+     * is coalesced as well, which shares it when the cache is disabled.
+     */
+    @Cacheable(cacheNames = CacheConfig.TASKS_CACHE, key = "#id", sync = true)
     public Optional<Task> getTaskById(Long id) {
-        return taskRepository.findById(id);
+        return taskReadCoalescer.getTask(id, () -> taskRepository.findById(id));
     }
 
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#result.id")
     public Task createTask(Task task) {
         validateTaskTitle(task.getTitle());
-        return taskRepository.save(task);
+        taskWriteTracker.begin();
+        Task created = taskRepository.save(task);
+        taskStatistics.record(null, TaskStatusView.of(created));
+        eventPublisher.publishEvent(TaskEvent.created(created));
+        return created;
+    }
+
+    /**
+     * Creates the task and records {@code idempotencyKey} for it in the same
+     * transaction, or returns the task an earlier request created with the key
+     * if that was less than {@code tasks.idempotency.ttl} ago.
+     */
+    @Transactional
+    public IdempotentCreate createTask(Task task, String idempotencyKey, int requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        TaskIdempotencyKey recorded = taskIdempotencyKeyRepository.findById(idempotencyKey).orElse(null);
+        if (recorded != null && recorded.getCreatedAt().isAfter(now.minus(idempotencyTtl))) {
+            return replay(recorded, requestHash);
+        }
+
+        Task created = createTask(task);
+        evictCached(created.getId());
+        if (recorded == null) {
+            entityManager.persist(new TaskIdempotencyKey(idempotencyKey, requestHash, created.getId(), now));
+        } else {
+            recorded.reassign(requestHash, created.getId(), now);
+        }
+        return new IdempotentCreate(created, false);
     }
 
+    /**
+     * Answers a create whose key insert failed with {@code insertFailure}
+     * because another request recorded the same key first, in another
+     * instance or after this one evicted the key from memory. Rethrows
+     * {@code insertFailure} if no key was recorded, as then it had another cause.
+     */
+    @Transactional(readOnly = true)
+    public IdempotentCreate replayIdempotentCreate(String idempotencyKey, int requestHash,
+                                                   DataIntegrityViolationException insertFailure) {
+        TaskIdempotencyKey recorded = taskIdempotencyKeyRepository.findById(idempotencyKey)
+                .orElseThrow(() -> insertFailure);
+        return replay(recorded, requestHash);
+    }
+
+    private IdempotentCreate replay(TaskIdempotencyKey recorded, int requestHash) {
+        if (recorded.getRequestHash() != requestHash) {
+            throw TaskIdempotencyStore.conflict();
+        }
+        Task original = taskRepository.findById(recorded.getTaskId())
+                .orElseThrow(() -> new IdempotencyKeyConflictException("Idempotency-Key was used for task "
+                        + recorded.getTaskId() + ", which has since been deleted"));
+        return new IdempotentCreate(original, true);
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
     public Task updateTask(Long id, Task taskDetails) {
-        Task task = taskRepository.findById(id)
+        return updateTask(id, taskDetails, null);
+    }
+
+    /**
+     * Applies the non-null fields of {@code taskDetails} with a single UPDATE and
+     * reads the row back for the response; an UPDATE that matched no row means
+     * not found.
+     * When {@code expectedVersion} is non-null the update only goes through if
+     * the task is still at that version.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
+    public Task updateTask(Long id, Task taskDetails, Long expectedVersion) {
+        if (taskDetails.getTitle() != null) {
+            validateTaskTitle(taskDetails.getTitle());
+        }
+        taskWriteTracker.begin();
+        // The statistics need what the update replaced; the UPDATE itself returns it.
+        TaskStatusView before = taskRepository.updateFieldsReturningPrevious(id, taskDetails, expectedVersion)
+                .orElseThrow(() -> notFoundOrConflict(id, expectedVersion));
+        Task updated = taskRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
+        taskStatistics.record(before, TaskStatusView.of(updated));
+        eventPublisher.publishEvent(TaskEvent.updated(updated));
+        return updated;
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
+    public void deleteTask(Long id) {
+        deleteTask(id, null);
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
+    public void deleteTask(Long id, Long expectedVersion) {
+        taskWriteTracker.begin();
+        TaskStatusView before = taskRepository.deleteReturningPrevious(id, expectedVersion)
+                .orElseThrow(() -> notFoundOrConflict(id, expectedVersion));
+        taskTombstoneRepository.save(new TaskTombstone(id, LocalDateTime.now()));
+        taskStatistics.record(before, null);
+        eventPublisher.publishEvent(TaskEvent.deleted(id));
+    }
+
+    /**
+     * Only called once a conditional write has touched no rows, so the extra
+     * existence check stays off the happy path.
+     */
+    private RuntimeException notFoundOrConflict(Long id, Long expectedVersion) {
+        if (expectedVersion != null && taskRepository.existsById(id)) {
+            return new TaskVersionConflictException(id, expectedVersion);
+        }
+        return new RuntimeException("Task not found with id: " + id);
+    }
+
+    /**
+     * Inserts all valid tasks in one transaction. Invalid items are reported
+     * and skipped; the persistence context is flushed and cleared every JDBC
+     * batch so inserts go out as batches and memory stays bounded.
+     */
+    @Transactional
+    public BatchResult createTasks(List<Task> tasks) {
+        checkBatchSize(tasks);
+        taskWriteTracker.begin();
+        List<BatchResult.Item> results = new ArrayList<>(tasks.size());
+        int pending = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            if (task == null || isBlank(task.getTitle())) {
+                results.add(BatchResult.Item.failed(i, null, "INVALID", "Task title cannot be empty"));
+                continue;
+            }
+            task.setId(null);
+            entityManager.persist(task);
+            evictCached(task.getId());
+            taskStatistics.record(null, TaskStatusView.of(task));
+            eventPublisher.publishEvent(TaskEvent.created(task));
+            results.add(BatchResult.Item.ok(i, task.getId(), "CREATED"));
+            if (++pending == jdbcBatchSize) {
+                flushAndClear();
+                pending = 0;
+            }
+        }
+        return BatchResult.of(results);
+    }
 
+    /**
+     * Applies partial updates (each element must carry its id) in one
+     * transaction. Rows are loaded one JDBC batch at a time with a single
+     * IN query and written back as batched UPDATEs.
+     */
+    @Transactional
+    public BatchResult updateTasks(List<Task> patches) {
+        checkBatchSize(patches);
+        taskWriteTracker.begin();
+        BatchResult.Item[] results = new BatchResult.Item[patches.size()];
+        List<Integer> valid = new ArrayList<>(patches.size());
+        for (int i = 0; i < patches.size(); i++) {
+            Task patch = patches.get(i);
+            if (patch == null || patch.getId() == null) {
+                results[i] = BatchResult.Item.failed(i, null, "INVALID", "Task id is required");
+            } else if (patch.getTitle() != null && isBlank(patch.getTitle())) {
+                results[i] = BatchResult.Item.failed(i, patch.getId(), "INVALID", "Task title cannot be empty");
+            } else {
+                valid.add(i);
+            }
+        }
+
+        for (int from = 0; from < valid.size(); from += jdbcBatchSize) {
+            List<Integer> chunk = valid.subList(from, Math.min(from + jdbcBatchSize, valid.size()));
+            Set<Long> ids = chunk.stream().map(i -> patches.get(i).getId()).collect(Collectors.toSet());
+            Map<Long, Task> existing = taskRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Task::getId, Function.identity()));
+            for (int i : chunk) {
+                Task patch = patches.get(i);
+                Task task = existing.get(patch.getId());
+                if (task == null) {
+                    results[i] = BatchResult.Item.failed(i, patch.getId(), "NOT_FOUND",
+                            "Task not found with id: " + patch.getId());
+                } else {
+                    TaskStatusView before = TaskStatusView.of(task);
+                    applyChanges(task, patch);
+                    evictCached(task.getId());
+                    taskStatistics.record(before, TaskStatusView.of(task));
+                    eventPublisher.publishEvent(TaskEvent.updated(task));
+                    results[i] = BatchResult.Item.ok(i, task.getId(), "UPDATED");
+                }
+            }
+            flushAndClear();
+        }
+        return BatchResult.of(List.of(results));
+    }
+
+    /**
+     * Deletes by id in one transaction, one {@code DELETE ... WHERE id IN (...)}
+     * per JDBC batch. Ids that do not exist are reported as NOT_FOUND.
+     */
+    @Transactional
+    public BatchResult deleteTasks(List<Long> ids) {
+        checkBatchSize(ids);
+        taskWriteTracker.begin();
+        BatchResult.Item[] results = new BatchResult.Item[ids.size()];
+        List<Integer> valid = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            if (ids.get(i) == null) {
+                results[i] = BatchResult.Item.failed(i, null, "INVALID", "Task id is required");
+            } else {
+                valid.add(i);
+            }
+        }
+
+        for (int from = 0; from < valid.size(); from += jdbcBatchSize) {
+            List<Integer> chunk = valid.subList(from, Math.min(from + jdbcBatchSize, valid.size()));
+            Set<Long> requested = chunk.stream().map(ids::get).collect(Collectors.toSet());
+            Map<Long, TaskStatusView> existing = taskRepository.findStatusViews(requested).stream()
+                    .collect(Collectors.toMap(TaskStatusView::id, Function.identity()));
+            if (!existing.isEmpty()) {
+                taskRepository.deleteAllByIdInBatch(existing.keySet());
+                LocalDateTime deletedAt = LocalDateTime.now();
+                taskTombstoneRepository.saveAll(existing.keySet().stream()
+                        .map(id -> new TaskTombstone(id, deletedAt))
+                        .toList());
+            }
+            for (int i : chunk) {
+                Long id = ids.get(i);
+                if (existing.containsKey(id)) {
+                    evictCached(id);
+                    taskStatistics.record(existing.get(id), null);
+                    eventPublisher.publishEvent(TaskEvent.deleted(id));
+                    results[i] = BatchResult.Item.ok(i, id, "DELETED");
+                } else {
+                    results[i] = BatchResult.Item.failed(i, id, "NOT_FOUND", "Task not found with id: " + id);
+                }
+            }
+        }
+        return BatchResult.of(List.of(results));
+    }
+
+    private void applyChanges(Task task, Task taskDetails) {
         if (taskDetails.getTitle() != null) {
             validateTaskTitle(taskDetails.getTitle());
             task.setTitle(taskDetails.getTitle());
@@ -37,28 +527,64 @@ public class TaskService {
         if (taskDetails.getDescription() != null) {
             task.setDescription(taskDetails.getDescription());
         }
-        if (taskDetails.getCompleted() != null) {
-            task.setCompleted(taskDetails.getCompleted());
-        }
         if (taskDetails.getStatus() != null) {
             task.setStatus(taskDetails.getStatus());
         }
         if (taskDetails.getDueDate() != null) {
             task.setDueDate(taskDetails.getDueDate());
         }
+    }
 
-        return taskRepository.save(task);
+    /** Deferred to commit by the transaction-aware cache manager. */
+    private void evictCached(Long id) {
+        Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        if (cache != null) {
+            cache.evict(id);
+        }
     }
 
-    public void deleteTask(Long id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
-        taskRepository.delete(task);
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void checkBatchSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one item");
+        }
+        if (items.size() > maxBatchItems) {
+            throw new IllegalArgumentException("Batch cannot contain more than " + maxBatchItems + " items");
+        }
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return defaultPageLimit;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        return Math.min(limit, maxPageLimit);
+    }
+
+    private static LocalDateTime parseDateTime(String name, String value) {
+        if (isBlank(value)) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value + " (expected e.g. 2024-01-31T17:00:00)");
+        }
     }
 
     private void validateTaskTitle(String title) {
-        if (title == null || title.trim().isEmpty()) {
+        if (isBlank(title)) {
             throw new IllegalArgumentException("Task title cannot be empty");
         }
     }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
 }
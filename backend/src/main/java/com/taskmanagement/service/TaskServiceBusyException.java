@@ -0,0 +1,12 @@
+package com.taskmanagement.service;
+
+/**
+ * Thrown when {@link TaskAsyncService} cannot take another write: every worker
+ * is busy and the queue is full. The client should retry later.
+ */
+public class TaskServiceBusyException extends RuntimeException {
+
+    public TaskServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,147 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.model.TaskStatus;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TaskStatusView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory task counters behind {@code GET /api/tasks/stats}. Mutations report
+ * the before/after state of each task they touch and the counters are adjusted
+ * once the surrounding transaction commits. A periodic {@code GROUP BY}
+ * reconciliation replaces the counters wholesale, which corrects any drift and
+ * moves the overdue/due-today cut-off forward in time.
+ */
+@Component
+public class TaskStatistics {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    /** Indexed by {@link TaskStatus#ordinal()}. */
+    private final long[] byStatus = new long[TaskStatus.values().length];
+    private long total;
+    private long overdue;
+    private long dueToday;
+    /** Null until the first reconciliation; changes before that are not counted twice. */
+    private LocalDateTime asOf;
+
+    public TaskStats snapshot() {
+        synchronized (this) {
+            if (asOf != null) {
+                return toStats();
+            }
+        }
+        reconcile();
+        synchronized (this) {
+            return toStats();
+        }
+    }
+
+    /**
+     * Records that a task went from {@code before} to {@code after}; either may
+     * be null for a create or a delete. Inside a transaction the change is held
+     * until commit and dropped on rollback.
+     */
+    @SuppressWarnings("unchecked")
+    public void record(TaskStatusView before, TaskStatusView after) {
+        Change change = new Change(before, after);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(List.of(change));
+            return;
+        }
+        List<Change> pending = (List<Change>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Change> changes = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(changes);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TaskStatistics.this);
+                }
+            });
+            pending = changes;
+        }
+        pending.add(change);
+    }
+
+    /**
+     * Recounts from the database. Changes committed while the counts are being
+     * read may be missed or counted twice until the next run.
+     */
+    @Scheduled(fixedDelayString = "${tasks.stats.reconcile-interval:PT1M}")
+    public void reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime today = now.toLocalDate().atStartOfDay();
+        long[] counted = new long[byStatus.length];
+        long countedTotal = 0;
+        for (Object[] row : taskRepository.countByStatus()) {
+            long count = (Long) row[1];
+            counted[((TaskStatus) row[0]).ordinal()] = count;
+            countedTotal += count;
+        }
+        long countedOverdue = taskRepository.countOpenDueBefore(now);
+        long countedDueToday = taskRepository.countOpenDueBetween(today, today.plusDays(1));
+
+        synchronized (this) {
+            System.arraycopy(counted, 0, byStatus, 0, byStatus.length);
+            total = countedTotal;
+            overdue = countedOverdue;
+            dueToday = countedDueToday;
+            asOf = now;
+        }
+    }
+
+    private synchronized void apply(List<Change> changes) {
+        if (asOf == null) {
+            return;
+        }
+        for (Change change : changes) {
+            count(change.before(), -1);
+            count(change.after(), 1);
+        }
+    }
+
+    private void count(TaskStatusView task, int delta) {
+        if (task == null) {
+            return;
+        }
+        total += delta;
+        byStatus[task.status().ordinal()] += delta;
+        if (task.isOpen() && task.dueDate() != null) {
+            LocalDateTime today = asOf.toLocalDate().atStartOfDay();
+            if (task.dueDate().isBefore(asOf)) {
+                overdue += delta;
+            }
+            if (!task.dueDate().isBefore(today) && task.dueDate().isBefore(today.plusDays(1))) {
+                dueToday += delta;
+            }
+        }
+    }
+
+    private TaskStats toStats() {
+        Map<String, Long> statuses = new LinkedHashMap<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            statuses.put(status.name(), byStatus[status.ordinal()]);
+        }
+        return new TaskStats(total, statuses, overdue, dueToday, asOf);
+    }
+
+    private record Change(TaskStatusView before, TaskStatusView after) {
+    }
+}
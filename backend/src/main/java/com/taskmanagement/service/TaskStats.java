@@ -0,0 +1,13 @@
+package com.taskmanagement.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Task counts for dashboards. {@code overdue} and {@code dueToday} only count
+ * tasks that are not DONE and are evaluated as of {@code asOf}, the last time
+ * the counters were reconciled with the database.
+ */
+public record TaskStats(long total, Map<String, Long> byStatus, long overdue, long dueToday,
+                        LocalDateTime asOf) {
+}
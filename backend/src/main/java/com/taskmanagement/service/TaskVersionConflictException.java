@@ -0,0 +1,12 @@
+package com.taskmanagement.service;
+
+/**
+ * Thrown when a conditional write names a task version that is no longer
+ * current, i.e. someone else modified the task in the meantime.
+ */
+public class TaskVersionConflictException extends RuntimeException {
+
+    public TaskVersionConflictException(Long id, Long expectedVersion) {
+        super("Task " + id + " has been modified; expected version " + expectedVersion);
+    }
+}
@@ -0,0 +1,538 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.config.CacheConfig;
+import com.taskmanagement.events.TaskEvent;
+import com.taskmanagement.model.Task;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TaskStatusView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Opt-in write-behind for single-task updates ({@code PUT /api/tasks/{id}}),
+ * enabled with {@code tasks.write-behind.enabled=true}.
+ *
+ * <p>An update is applied to an in-memory copy of the task and queued. Further
+ * updates to the same task before the next flush are merged into the same
+ * entry. One flusher thread writes the queue in transactions of up to
+ * {@code batch-size} tasks: one UPDATE per task however many updates were
+ * merged into it, and one commit per batch.
+ *
+ * <p>With {@code ack=flush} an update returns once its batch has committed, and
+ * a flush starts as soon as the previous one ends, so updates that arrive
+ * during a commit share the next one (group commit). With {@code ack=enqueue}
+ * an update returns as soon as it is queued and the queue is flushed every
+ * {@code flush-interval}, or once {@code batch-size} tasks are waiting; a crash
+ * loses whatever is still queued. The queue holds at most {@code max-pending}
+ * tasks; an update to another task then waits up to {@code enqueue-timeout}
+ * for room and is rejected after that. Shutdown flushes the queue.
+ *
+ * <p>Until it is flushed, a queued task is served from memory by
+ * {@link #find(Long)}. Lists, search and the changes feed see it after the
+ * flush, which also stamps {@code updatedAt}.
+ */
+@Component
+public class TaskWriteBehind {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskWriteBehind.class);
+
+    private static final int LOCK_STRIPES = 64;
+
+    public enum Ack { FLUSH, ENQUEUE }
+
+    private final boolean enabled;
+    private final Ack ack;
+    private final Duration flushInterval;
+    private final int batchSize;
+    private final Duration enqueueTimeout;
+    private final Duration ackTimeout;
+    private final Duration drainTimeout;
+
+    /** Queued tasks by id. Entries are replaced, never mutated, under {@link #lockFor}. */
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    /** One permit per task that may be queued. */
+    private final Semaphore capacity;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService flusher;
+    private volatile boolean closed;
+
+    private final Counter writes;
+    private final Counter rows;
+    private final Counter rejected;
+    private final Counter dropped;
+    private final Timer flushTimer;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatistics taskStatistics;
+
+    @Autowired
+    private TaskWriteTracker taskWriteTracker;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    public TaskWriteBehind(@Value("${tasks.write-behind.enabled:false}") boolean enabled,
+                           @Value("${tasks.write-behind.ack:flush}") Ack ack,
+                           @Value("${tasks.write-behind.flush-interval:20ms}") Duration flushInterval,
+                           @Value("${tasks.write-behind.batch-size:500}") int batchSize,
+                           @Value("${tasks.write-behind.max-pending:10000}") int maxPending,
+                           @Value("${tasks.write-behind.enqueue-timeout:500ms}") Duration enqueueTimeout,
+                           @Value("${tasks.write-behind.ack-timeout:5s}") Duration ackTimeout,
+                           @Value("${tasks.write-behind.drain-timeout:30s}") Duration drainTimeout,
+                           MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.ack = ack;
+        this.flushInterval = flushInterval;
+        this.batchSize = batchSize;
+        this.enqueueTimeout = enqueueTimeout;
+        this.ackTimeout = ackTimeout;
+        this.drainTimeout = drainTimeout;
+        this.capacity = new Semaphore(maxPending);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        this.flusher = enabled ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "write-behind-flush");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+
+        Gauge.builder("tasks.writebehind.pending", pending, Map::size)
+                .description("Tasks with updates waiting to be flushed")
+                .register(meterRegistry);
+        this.writes = Counter.builder("tasks.writebehind.writes")
+                .description("Updates accepted into the write-behind queue")
+                .register(meterRegistry);
+        this.rows = Counter.builder("tasks.writebehind.rows")
+                .description("Rows written by flushes; writes / rows is the coalescing factor")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("tasks.writebehind.rejected")
+                .description("Updates rejected because the queue was full")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("tasks.writebehind.dropped")
+                .description("Queued updates dropped because the database rejected them")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("tasks.writebehind.flush")
+                .description("Duration of one write-behind batch transaction")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (flusher != null) {
+            long millis = flushInterval.toMillis();
+            flusher.scheduleWithFixedDelay(this::flushQueued, millis, millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Applies the non-null fields of {@code changes} like
+     * {@link TaskService#updateTask(Long, Task, Long)}, but queues the write.
+     * {@code expectedVersion} is checked against the queued state.
+     *
+     * @throws WriteBehindUnavailableException if the queue stays full, or the
+     *         write is not flushed within {@code ack-timeout} with {@code ack=flush}
+     */
+    public Task update(Long id, Task changes, Long expectedVersion) {
+        // Checked here rather than left to the database: a value it rejects would fail the whole batch.
+        if (changes.getTitle() != null && changes.getTitle().trim().isEmpty()) {
+            throw new IllegalArgumentException("Task title cannot be empty");
+        }
+        if (changes.getTitle() != null && changes.getTitle().length() > Task.MAX_TITLE_LENGTH) {
+            throw new IllegalArgumentException("Task title cannot be longer than " + Task.MAX_TITLE_LENGTH + " characters");
+        }
+        if (changes.getDescription() != null && changes.getDescription().length() > Task.MAX_DESCRIPTION_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Task description cannot be longer than " + Task.MAX_DESCRIPTION_LENGTH + " characters");
+        }
+        if (closed) {
+            throw new WriteBehindUnavailableException("Shutting down; update not accepted");
+        }
+        CompletableFuture<LocalDateTime> flushed = ack == Ack.FLUSH ? new CompletableFuture<>() : null;
+        boolean permit = !pending.containsKey(id) && acquirePermit();
+        Task view;
+        try {
+            synchronized (lockFor(id)) {
+                Pending current = pending.get(id);
+                if (current == null && !permit && !(permit = capacity.tryAcquire())) {
+                    // Flushed since we looked, and the queue is full again.
+                    throw queueFull();
+                }
+                Task before = current != null ? current.view() : load(id);
+                if (expectedVersion != null && !expectedVersion.equals(before.getVersion())) {
+                    throw new TaskVersionConflictException(id, expectedVersion);
+                }
+                view = copy(before);
+                apply(view, changes);
+                view.setVersion(before.getVersion() + 1);
+                view.setUpdatedAt(LocalDateTime.now());
+                if (current == null) {
+                    pending.put(id, new Pending(id, before, view, merge(null, changes), 1, waiters(List.of(), flushed)));
+                    permit = false;
+                } else {
+                    pending.put(id, new Pending(id, current.base(), view, merge(current.changes(), changes),
+                            current.writes() + 1, waiters(current.waiters(), flushed)));
+                }
+            }
+        } finally {
+            if (permit) {
+                capacity.release();
+            }
+        }
+        writes.increment();
+        // A caller waiting for the commit should not also wait out the interval.
+        // Updates that arrive while a batch commits go out together in the next.
+        if (flushed != null || pending.size() >= batchSize) {
+            requestFlush();
+        }
+        return flushed == null ? copy(view) : awaitFlush(flushed, view);
+    }
+
+    /** The queued state of a task, if it has updates waiting to be flushed. */
+    public Optional<Task> find(Long id) {
+        Pending entry = pending.get(id);
+        return entry == null ? Optional.empty() : Optional.of(copy(entry.view()));
+    }
+
+    /**
+     * Writes everything queued so far and waits for it. Writes that bypass the
+     * queue (deletes, batch endpoints) call this first so they apply on top of
+     * the queued updates, not underneath them.
+     */
+    public void flush() {
+        if (flusher == null || pending.isEmpty()) {
+            return;
+        }
+        try {
+            if (!flusher.submit(this::flushQueued).get(drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new WriteBehindUnavailableException("Queued updates could not be written");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WriteBehindUnavailableException("Interrupted while flushing queued updates");
+        } catch (ExecutionException | TimeoutException e) {
+            throw new WriteBehindUnavailableException("Queued updates could not be written in time");
+        }
+    }
+
+    /** {@link #flush()}, but only when the given task has queued updates. */
+    public void flush(Long id) {
+        if (pending.containsKey(id)) {
+            flush();
+        }
+    }
+
+    /**
+     * Runs on the flusher thread. Returns false if a batch failed for a reason
+     * that may pass, such as a lost connection; its tasks stay queued and are
+     * retried on the next flush.
+     */
+    private boolean flushQueued() {
+        flushRequested.set(false);
+        List<Pending> queued = new ArrayList<>(pending.values());
+        for (int from = 0; from < queued.size(); from += batchSize) {
+            List<Pending> batch = queued.subList(from, Math.min(from + batchSize, queued.size()));
+            try {
+                write(batch);
+            } catch (RuntimeException e) {
+                if (!writeEach(batch, e)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes a failed batch one task at a time, so that an update the database
+     * rejects fails only its own callers and leaves the queue, instead of
+     * failing every batch it is part of.
+     */
+    private boolean writeEach(List<Pending> batch, RuntimeException failure) {
+        if (!(failure instanceof NonTransientDataAccessException)) {
+            log.error("Write-behind flush of {} tasks failed; retrying on the next flush", batch.size(), failure);
+            return false;
+        }
+        log.warn("Write-behind flush of {} tasks was rejected; writing them one at a time", batch.size());
+        for (Pending entry : batch) {
+            try {
+                write(List.of(entry));
+            } catch (NonTransientDataAccessException e) {
+                drop(entry, e);
+            } catch (RuntimeException e) {
+                log.error("Write-behind flush of task {} failed; retrying on the next flush", entry.id(), e);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void write(List<Pending> batch) {
+        Set<Long> missing = new HashSet<>();
+        LocalDateTime flushedAt = flushTimer.record(() -> transactionTemplate.execute(status -> {
+            // Microseconds, as the column holds, so responses equal what is stored.
+            LocalDateTime stamp = taskWriteTracker.begin();
+            for (Pending entry : batch) {
+                if (taskRepository.updateFields(entry.id(), entry.changes(), entry.writes(), stamp) == 0) {
+                    missing.add(entry.id());
+                    continue;
+                }
+                Task written = entry.flushedView(stamp);
+                taskStatistics.record(TaskStatusView.of(entry.base()), TaskStatusView.of(written));
+                eventPublisher.publishEvent(TaskEvent.updated(written));
+                evictCached(entry.id());
+            }
+            return stamp;
+        }));
+        rows.increment(batch.size() - missing.size());
+
+        for (Pending entry : batch) {
+            dequeue(entry, flushedAt);
+            if (missing.contains(entry.id())) {
+                log.warn("Dropped {} queued updates to task {}: deleted before they were flushed",
+                        entry.writes(), entry.id());
+                RuntimeException notFound = new RuntimeException("Task not found with id: " + entry.id());
+                entry.waiters().forEach(waiter -> waiter.completeExceptionally(notFound));
+            } else {
+                entry.waiters().forEach(waiter -> waiter.complete(flushedAt));
+            }
+        }
+    }
+
+    /**
+     * Removes a task's queued updates that the database will not accept, with
+     * any merged into them since, and fails their waiting callers.
+     */
+    private void drop(Pending rejected, RuntimeException cause) {
+        Pending current;
+        synchronized (lockFor(rejected.id())) {
+            current = pending.remove(rejected.id());
+            if (current != null) {
+                capacity.release();
+            }
+        }
+        Pending dropped = current != null ? current : rejected;
+        this.dropped.increment(dropped.writes());
+        log.error("Dropped {} queued updates to task {}: rejected by the database",
+                dropped.writes(), rejected.id(), cause);
+        IllegalArgumentException error = new IllegalArgumentException(
+                "Update to task " + rejected.id() + " was rejected by the database");
+        dropped.waiters().forEach(waiter -> waiter.completeExceptionally(error));
+    }
+
+    /**
+     * Removes a flushed entry, or if more updates were merged into it while it
+     * was being written, keeps those on top of what was just written.
+     */
+    private void dequeue(Pending flushed, LocalDateTime flushedAt) {
+        synchronized (lockFor(flushed.id())) {
+            Pending current = pending.get(flushed.id());
+            if (current == flushed) {
+                pending.remove(flushed.id());
+                capacity.release();
+            } else if (current != null) {
+                List<CompletableFuture<LocalDateTime>> waiters = new ArrayList<>(current.waiters());
+                waiters.removeAll(flushed.waiters());
+                pending.put(flushed.id(), new Pending(flushed.id(), flushed.flushedView(flushedAt), current.view(),
+                        current.changes(), current.writes() - flushed.writes(), waiters));
+            }
+        }
+    }
+
+    private void requestFlush() {
+        if (flusher != null && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flushQueued);
+        }
+    }
+
+    /** Waiting is enough: with max-pending above batch-size, a full queue is already being flushed. */
+    private boolean acquirePermit() {
+        try {
+            if (capacity.tryAcquire(enqueueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw queueFull();
+    }
+
+    private WriteBehindUnavailableException queueFull() {
+        rejected.increment();
+        return new WriteBehindUnavailableException("Write queue is full; retry later");
+    }
+
+    private Task awaitFlush(CompletableFuture<LocalDateTime> flushed, Task view) {
+        try {
+            Task result = copy(view);
+            result.setUpdatedAt(flushed.get(ackTimeout.toMillis(), TimeUnit.MILLISECONDS));
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WriteBehindUnavailableException("Interrupted while waiting for the update to be written");
+        } catch (TimeoutException e) {
+            throw new WriteBehindUnavailableException("Update not written within " + ackTimeout
+                    + "; it is still queued and may yet be applied");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private Task load(Long id) {
+        return taskRepository.findById(id)
+                .map(TaskWriteBehind::copy)
+                .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
+    }
+
+    /** Deferred to commit by the transaction-aware cache manager. */
+    private void evictCached(Long id) {
+        Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        if (cache != null) {
+            cache.evict(id);
+        }
+    }
+
+    private Object lockFor(Long id) {
+        return locks[Math.floorMod(id.hashCode(), LOCK_STRIPES)];
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        closed = true;
+        long deadline = System.nanoTime() + drainTimeout.toNanos();
+        try {
+            // Loop: an update accepted just before closed was set may land after a pass.
+            while (!pending.isEmpty() && System.nanoTime() < deadline) {
+                if (!flusher.submit(this::flushQueued).get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+            }
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("Could not drain the write-behind queue", e);
+        } finally {
+            flusher.shutdownNow();
+        }
+        if (!pending.isEmpty()) {
+            log.error("Shut down with updates to {} tasks still queued; they are lost", pending.size());
+        }
+    }
+
+    private static Task copy(Task task) {
+        Task copy = new Task();
+        copy.setId(task.getId());
+        copy.setUniqueId(task.getUniqueId());
+        copy.setTitle(task.getTitle());
+        copy.setDescription(task.getDescription());
+        copy.setStatus(task.getStatus());
+        copy.setDueDate(task.getDueDate());
+        copy.setCreatedAt(task.getCreatedAt());
+        copy.setUpdatedAt(task.getUpdatedAt());
+        copy.setVersion(task.getVersion());
+        return copy;
+    }
+
+    /** The fields {@code updateFields} writes. */
+    private static void apply(Task task, Task changes) {
+        if (changes.getTitle() != null) {
+            task.setTitle(changes.getTitle());
+        }
+        if (changes.getDescription() != null) {
+            task.setDescription(changes.getDescription());
+        }
+        if (changes.getStatus() != null) {
+            task.setStatus(changes.getStatus());
+        }
+        if (changes.getDueDate() != null) {
+            task.setDueDate(changes.getDueDate());
+        }
+    }
+
+    /** Later non-null fields win; {@code earlier} may be null. */
+    private static Task merge(Task earlier, Task later) {
+        Task merged = new Task();
+        merged.setTitle(later.getTitle() != null || earlier == null ? later.getTitle() : earlier.getTitle());
+        merged.setDescription(later.getDescription() != null || earlier == null
+                ? later.getDescription() : earlier.getDescription());
+        merged.setStatus(later.getStatus() != null || earlier == null ? later.getStatus() : earlier.getStatus());
+        merged.setDueDate(later.getDueDate() != null || earlier == null ? later.getDueDate() : earlier.getDueDate());
+        return merged;
+    }
+
+    private static List<CompletableFuture<LocalDateTime>> waiters(List<CompletableFuture<LocalDateTime>> waiting,
+                                                                  CompletableFuture<LocalDateTime> waiter) {
+        if (waiter == null) {
+            return waiting;
+        }
+        List<CompletableFuture<LocalDateTime>> all = new ArrayList<>(waiting.size() + 1);
+        all.addAll(waiting);
+        all.add(waiter);
+        return all;
+    }
+
+    /**
+     * Updates queued for one task: the state last read or written ({@code base}),
+     * the state after the queued updates ({@code view}), their merged fields and
+     * how many there were, and the {@code ack=flush} callers waiting on them.
+     */
+    private record Pending(Long id, Task base, Task view, Task changes, int writes,
+                           List<CompletableFuture<LocalDateTime>> waiters) {
+
+        Task flushedView(LocalDateTime flushedAt) {
+            Task written = copy(view);
+            written.setUpdatedAt(flushedAt);
+            return written;
+        }
+    }
+}
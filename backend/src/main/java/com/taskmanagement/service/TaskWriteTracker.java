@@ -0,0 +1,75 @@
+package com.taskmanagement.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.TreeMap;
+
+/**
+ * Tracks task write transactions that have not finished yet, so the changes
+ * feed never moves a watermark past a row that is still to commit.
+ *
+ * <p>A write transaction calls {@link #begin()} before it stamps any
+ * {@code updatedAt} or {@code deletedAt}, and every stamp it writes is at or
+ * after the time returned. Until the transaction completes, {@link #horizon()}
+ * stays below that time. Everything stamped at or before the horizon has
+ * therefore committed or rolled back, however long the transaction takes.
+ */
+@Component
+public class TaskWriteTracker {
+
+    /** Start times of unfinished write transactions, with how many started at each. */
+    private final TreeMap<LocalDateTime, Integer> inFlight = new TreeMap<>();
+
+    /**
+     * Registers the current transaction as a write, once per transaction, and
+     * returns its start time, truncated to the microseconds the columns hold.
+     * Outside a transaction there is nothing to wait for and the current time
+     * is returned.
+     */
+    public LocalDateTime begin() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return now();
+        }
+        LocalDateTime started = (LocalDateTime) TransactionSynchronizationManager.getResource(this);
+        if (started != null) {
+            return started;
+        }
+        LocalDateTime start;
+        synchronized (this) {
+            start = now();
+            inFlight.merge(start, 1, Integer::sum);
+        }
+        TransactionSynchronizationManager.bindResource(this, start);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TaskWriteTracker.this);
+                end(start);
+            }
+        });
+        return start;
+    }
+
+    /**
+     * The latest stamp up to which every task write has finished: one
+     * microsecond before the oldest unfinished write started, or before now
+     * when there is none. A write that starts after this call starts after the
+     * returned time, because both read the clock under the same lock.
+     */
+    public synchronized LocalDateTime horizon() {
+        LocalDateTime bound = inFlight.isEmpty() ? now() : inFlight.firstKey();
+        return bound.minus(1, ChronoUnit.MICROS);
+    }
+
+    private synchronized void end(LocalDateTime start) {
+        inFlight.computeIfPresent(start, (time, count) -> count == 1 ? null : count - 1);
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskmanagement.service;
+
+/**
+ * Thrown when a changes-feed watermark is older than the tombstone retention
+ * window: deletions may have been purged, so the client must resync in full.
+ */
+public class WatermarkExpiredException extends RuntimeException {
+
+    public WatermarkExpiredException() {
+        super("Watermark is older than the tombstone retention window; resync from scratch");
+    }
+}
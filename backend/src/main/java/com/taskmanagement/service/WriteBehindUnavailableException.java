@@ -0,0 +1,13 @@
+package com.taskmanagement.service;
+
+/**
+ * Thrown when the write-behind queue cannot take or confirm a write in time:
+ * it is full, shutting down, or (with {@code ack=flush}) the write was not
+ * flushed within the acknowledgement timeout. The client should retry later.
+ */
+public class WriteBehindUnavailableException extends RuntimeException {
+
+    public WriteBehindUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,30 @@
+-- Compact task columns: status becomes the TaskStatus ordinal, completed is no
+-- longer stored (it is status = DONE), and unique_id becomes a native 16-byte
+-- UUID instead of its 36-character text form.
+
+-- Ordinals follow the TaskStatus declaration order. Any other stored value was
+-- treated as open before, so it becomes TODO.
+ALTER TABLE tasks ADD COLUMN status_code TINYINT;
+UPDATE tasks SET status_code = CASE status
+    WHEN 'TODO' THEN 0
+    WHEN 'IN_PROGRESS' THEN 1
+    WHEN 'DONE' THEN 2
+    ELSE 0
+END;
+ALTER TABLE tasks ALTER COLUMN status_code SET NOT NULL;
+
+DROP INDEX idx_tasks_status_updated;
+DROP INDEX idx_tasks_open_due;
+ALTER TABLE tasks DROP COLUMN status;
+ALTER TABLE tasks DROP COLUMN completed;
+ALTER TABLE tasks ALTER COLUMN status_code RENAME TO status;
+
+ALTER TABLE tasks ALTER COLUMN unique_id SET DATA TYPE UUID;
+
+-- sort=status, and status=... filters on sort=updated. Ascending ordinal is board order.
+CREATE INDEX idx_tasks_status_updated ON tasks (status ASC, updated_at DESC, id DESC);
+
+-- status=... (and completed=true, which is status=DONE) filters on sort=due.
+-- Open tasks (completed=false) walk idx_tasks_due and skip DONE rows instead:
+-- with two open statuses no single index range is in due order.
+CREATE INDEX idx_tasks_status_due ON tasks (status ASC, due_date ASC NULLS LAST, id ASC);
@@ -0,0 +1,11 @@
+-- Idempotency-Key values seen on POST /api/tasks, with the task each one
+-- created. Only written with tasks.idempotency.database=true; rows older than
+-- tasks.idempotency.ttl are purged.
+CREATE TABLE task_idempotency_keys (
+    idempotency_key VARCHAR(255) NOT NULL PRIMARY KEY,
+    request_hash    INTEGER      NOT NULL,
+    task_id         BIGINT       NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_task_idempotency_keys_created ON task_idempotency_keys (created_at ASC);
@@ -0,0 +1,7 @@
+-- Open tasks (completed=false) by due date. V2 dropped idx_tasks_open_due with
+-- the old status column: with two open status ordinals no range of
+-- idx_tasks_status_due is in due order, so those queries walked idx_tasks_due
+-- and skipped DONE rows. A generated flag gives them one index range again.
+ALTER TABLE tasks ADD COLUMN is_open BOOLEAN GENERATED ALWAYS AS (status <> 2);
+
+CREATE INDEX idx_tasks_open_due ON tasks (is_open ASC, due_date ASC NULLS LAST, id ASC);
@@ -0,0 +1,111 @@
+package com.taskmanagement.api;
+
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskStatus;
+import com.taskmanagement.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compression is applied by Tomcat, so unlike the MockMvc tests these go
+ * through a real connector.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ResponseCompressionTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void largeListIsGzippedWhenAccepted() throws Exception {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Task task = new Task();
+            task.setTitle("Compressible task " + i);
+            task.setDescription("A description that repeats across tasks " + i);
+            task.setStatus(TaskStatus.TODO);
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+
+        HttpResponse<byte[]> response = get("/api/tasks?fields=all", "gzip");
+
+        assertEquals(200, response.statusCode());
+        assertEquals(Optional.of("gzip"), response.headers().firstValue("Content-Encoding"));
+        String json = gunzip(response.body());
+        assertTrue(json.startsWith("[{"));
+        assertTrue(response.body().length * 4 < json.length(), "gzip should shrink the list at least 4x");
+    }
+
+    @Test
+    void smallResponseIsNotCompressed() throws Exception {
+        Task task = new Task();
+        task.setTitle("Small");
+        task.setStatus(TaskStatus.TODO);
+        task = taskRepository.save(task);
+
+        HttpResponse<byte[]> response = get("/api/tasks/" + task.getId(), "gzip");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Encoding").isEmpty());
+    }
+
+    @Test
+    void responseIsNotCompressedWithoutAcceptEncoding() throws Exception {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setStatus(TaskStatus.TODO);
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+
+        HttpResponse<byte[]> response = get("/api/tasks?fields=all", null);
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Encoding").isEmpty());
+    }
+
+    private HttpResponse<byte[]> get(String path, String acceptEncoding) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
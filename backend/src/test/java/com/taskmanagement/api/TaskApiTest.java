@@ -1,39 +1,81 @@
 package com.taskmanagement.api;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.taskmanagement.config.CacheConfig;
 import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskStatus;
 import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TaskTombstoneRepository;
+import com.taskmanagement.service.ChangeWatermark;
+import com.taskmanagement.service.TaskStatistics;
+import com.taskmanagement.support.CountQueries;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import static com.taskmanagement.support.AsyncDispatch.performAndDispatch;
+import static com.taskmanagement.support.QueryCountAssertions.*;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
 @AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@CountQueries
 public class TaskApiTest {
 
+    private static final ObjectMapper CBOR = new CBORMapper();
+
     @Autowired
     private MockMvc mockMvc;
 
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskTombstoneRepository taskTombstoneRepository;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TaskStatistics taskStatistics;
+
     @BeforeEach
     public void setUp() {
         taskRepository.deleteAll();
+        taskTombstoneRepository.deleteAll();
     }
 
     // ==================== GET /api/tasks ====================
@@ -43,6 +85,7 @@ public class TaskApiTest {
         mockMvc.perform(get("/api/tasks"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(0)));
+        assertQueryCount(select(1));
     }
 
     @Test
@@ -51,13 +94,13 @@ public class TaskApiTest {
         Task task1 = new Task();
         task1.setTitle("Test Task 1");
         task1.setDescription("Description 1");
-        task1.setStatus("TODO");
+        task1.setStatus(TaskStatus.TODO);
         taskRepository.save(task1);
 
         Task task2 = new Task();
         task2.setTitle("Test Task 2");
         task2.setDescription("Description 2");
-        task2.setStatus("IN_PROGRESS");
+        task2.setStatus(TaskStatus.IN_PROGRESS);
         taskRepository.save(task2);
 
         mockMvc.perform(get("/api/tasks"))
@@ -67,6 +110,560 @@ public class TaskApiTest {
                 .andExpect(jsonPath("$[1].title", is("Test Task 2")))
                 .andExpect(jsonPath("$[0].status", is("TODO")))
                 .andExpect(jsonPath("$[1].status", is("IN_PROGRESS")));
+        assertQueryCount(select(1));
+    }
+
+    @Test
+    public void testGetAllTasks_KeysetPagination() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            Task task = new Task();
+            task.setTitle("Paged Task " + i);
+            task.setStatus(TaskStatus.TODO);
+            taskRepository.save(task);
+        }
+
+        MvcResult first = mockMvc.perform(get("/api/tasks").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].title", is("Paged Task 1")))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn();
+        assertQueryCount(select(1));
+        String cursor = first.getResponse().getHeader("X-Next-Cursor");
+
+        MvcResult second = mockMvc.perform(get("/api/tasks").param("limit", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].title", is("Paged Task 3")))
+                .andReturn();
+        assertQueryCount(select(1));
+        cursor = second.getResponse().getHeader("X-Next-Cursor");
+
+        mockMvc.perform(get("/api/tasks").param("limit", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title", is("Paged Task 5")))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+        assertQueryCount(select(1));
+    }
+
+    @Test
+    public void testGetAllTasks_UpdatedSortWalksAllPagesOnce() throws Exception {
+        for (int i = 1; i <= 7; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setStatus(i % 2 == 0 ? TaskStatus.DONE : TaskStatus.TODO);
+            taskRepository.save(task);
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        String cursor = null;
+        do {
+            var request = get("/api/tasks").param("sort", "updated").param("limit", "3");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            MvcResult result = mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+            assertQueryCount(select(1));
+            List<Integer> ids = JsonPath.read(result.getResponse().getContentAsString(), "$[*].id");
+            ids.forEach(id -> assertTrue(seen.add(id), "duplicate id " + id));
+            cursor = result.getResponse().getHeader("X-Next-Cursor");
+        } while (cursor != null);
+
+        assertEquals(7, seen.size());
+    }
+
+    @Test
+    public void testGetAllTasks_FilterByStatusAndCompleted() throws Exception {
+        for (TaskStatus status : new TaskStatus[]{TaskStatus.TODO, TaskStatus.IN_PROGRESS, TaskStatus.DONE, TaskStatus.DONE}) {
+            Task task = new Task();
+            task.setTitle(status + " task");
+            task.setStatus(status);
+            taskRepository.save(task);
+        }
+
+        mockMvc.perform(get("/api/tasks").param("status", "DONE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[*].status", everyItem(is("DONE"))));
+        assertQueryCount(select(1));
+
+        mockMvc.perform(get("/api/tasks").param("completed", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+        assertQueryCount(select(1));
+    }
+
+    @Test
+    public void testGetAllTasks_SortByStatusAndDue() throws Exception {
+        Task done = new Task();
+        done.setTitle("Done");
+        done.setStatus(TaskStatus.DONE);
+        done.setDueDate(LocalDateTime.now().plusDays(1));
+        taskRepository.save(done);
+
+        Task noDue = new Task();
+        noDue.setTitle("No due date");
+        noDue.setStatus(TaskStatus.IN_PROGRESS);
+        taskRepository.save(noDue);
+
+        Task todo = new Task();
+        todo.setTitle("Todo");
+        todo.setStatus(TaskStatus.TODO);
+        todo.setDueDate(LocalDateTime.now().plusDays(3));
+        taskRepository.save(todo);
+
+        mockMvc.perform(get("/api/tasks").param("sort", "status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].status", contains("TODO", "IN_PROGRESS", "DONE")));
+        assertQueryCount(select(1));
+
+        mockMvc.perform(get("/api/tasks").param("sort", "due"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].title", contains("Done", "Todo", "No due date")));
+        assertQueryCount(select(1));
+    }
+
+    @Test
+    public void testGetAllTasks_DefaultsToSummaryFields() throws Exception {
+        Task task = new Task();
+        task.setTitle("Summary Task");
+        task.setDescription("Long description that the list does not need");
+        task.setStatus(TaskStatus.TODO);
+        task.setDueDate(LocalDateTime.of(2030, 1, 15, 9, 0));
+        taskRepository.save(task);
+
+        mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(task.getId().intValue())))
+                .andExpect(jsonPath("$[0].title", is("Summary Task")))
+                .andExpect(jsonPath("$[0].status", is("TODO")))
+                .andExpect(jsonPath("$[0].dueDate", is("2030-01-15T09:00:00")))
+                .andExpect(jsonPath("$[0].description").doesNotExist())
+                .andExpect(jsonPath("$[0].uniqueId").doesNotExist())
+                .andExpect(jsonPath("$[0].completed").doesNotExist())
+                .andExpect(jsonPath("$[0].createdAt").doesNotExist())
+                .andExpect(jsonPath("$[0].updatedAt").doesNotExist())
+                .andExpect(jsonPath("$[0].version").doesNotExist());
+        assertQueryCount(select(1));
+    }
+
+    @Test
+    public void testGetAllTasks_SparseFieldsets() throws Exception {
+        Task task = new Task();
+        task.setTitle("Sparse Task");
+        task.setDescription("Shown on request");
+        task.setStatus(TaskStatus.DONE);
+        taskRepository.save(task);
+
+        mockMvc.perform(get("/api/tasks").param("fields", "title,description"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].*", hasSize(2)))
+                .andExpect(jsonPath("$[0].title", is("Sparse Task")))
+                .andExpect(jsonPath("$[0].description", is("Shown on request")));
+        assertQueryCount(select(1));
+
+        mockMvc.perform(get("/api/tasks").param("fields", "id,dueDate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].*", hasSize(2)))
+                .andExpect(jsonPath("$[0].dueDate").value(nullValue()));
+        assertQueryCount(select(1));
+
+        mockMvc.perform(get("/api/tasks").param("fields", "all"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].*", hasSize(10)))
+                .andExpect(jsonPath("$[0].completed", is(true)))
+                .andExpect(jsonPath("$[0].uniqueId", is(task.getUniqueId().toString())));
+        assertQueryCount(select(1));
+    }
+
+    @Test
+    public void testGetAllTasks_SparseFieldsetsKeepCursorAndETag() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setStatus(TaskStatus.TODO);
+            taskRepository.save(task);
+        }
+
+        MvcResult first = mockMvc.perform(get("/api/tasks").param("sort", "updated").param("fields", "title")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn();
+        String etag = first.getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/tasks").param("sort", "updated").param("fields", "title")
+                        .param("cursor", first.getResponse().getHeader("X-Next-Cursor")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title", is("Task 1")));
+
+        // The same page with different fields is a different representation.
+        mockMvc.perform(get("/api/tasks").param("sort", "updated").param("fields", "title,status")
+                        .param("limit", "2")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testGetAllTasks_InvalidParameters() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Invalid cursor")));
+        assertNoQueries();
+
+        mockMvc.perform(get("/api/tasks").param("sort", "priority"))
+                .andExpect(status().isBadRequest());
+        assertNoQueries();
+
+        mockMvc.perform(get("/api/tasks").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        assertNoQueries();
+
+        mockMvc.perform(get("/api/tasks").param("fields", "title,secret"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Unsupported field: secret")));
+        assertNoQueries();
+
+        mockMvc.perform(get("/api/tasks").param("status", "BLOCKED"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Unsupported status: BLOCKED")));
+        assertNoQueries();
+    }
+
+    // ==================== GET /api/tasks/changes ====================
+
+    @Test
+    public void testGetChanges_ReturnsOnlyWritesAfterWatermark() throws Exception {
+        Task kept = new Task();
+        kept.setTitle("Kept");
+        kept.setStatus(TaskStatus.TODO);
+        kept = taskRepository.save(kept);
+
+        Task removed = new Task();
+        removed.setTitle("Removed");
+        removed.setStatus(TaskStatus.TODO);
+        removed = taskRepository.save(removed);
+
+        MvcResult initial = mockMvc.perform(get("/api/tasks/changes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed", hasSize(2)))
+                .andExpect(jsonPath("$.deleted", hasSize(0)))
+                .andExpect(jsonPath("$.hasMore", is(false)))
+                .andReturn();
+        assertQueryCount(select(2));
+        String watermark = objectMapper.readTree(initial.getResponse().getContentAsString()).get("watermark").asText();
+
+        mockMvc.perform(get("/api/tasks/changes").param("since", watermark))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed", hasSize(0)))
+                .andExpect(jsonPath("$.deleted", hasSize(0)));
+        assertQueryCount(select(2));
+
+        performAndDispatch(mockMvc, put("/api/tasks/" + kept.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"DONE\"}"))
+                .andExpect(status().isOk());
+        assertQueryCount(select(1).update(1));
+        performAndDispatch(mockMvc, delete("/api/tasks/" + removed.getId()))
+                .andExpect(status().isNoContent());
+        assertQueryCount(insert(1).delete(1));
+
+        mockMvc.perform(get("/api/tasks/changes").param("since", watermark))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed", hasSize(1)))
+                .andExpect(jsonPath("$.changed[0].id", is(kept.getId().intValue())))
+                .andExpect(jsonPath("$.changed[0].status", is("DONE")))
+                .andExpect(jsonPath("$.deleted", contains(removed.getId().intValue())));
+        assertQueryCount(select(2));
+    }
+
+    @Test
+    public void testGetChanges_PagesThroughSharedTimestamps() throws Exception {
+        List<Task> tasks = new ArrayList<>();
+        LocalDateTime sameInstant = LocalDateTime.now().minusMinutes(1);
+        for (int i = 0; i < 5; i++) {
+            Task task = new Task();
+            task.setTitle("Same timestamp " + i);
+            task.setStatus(TaskStatus.TODO);
+            tasks.add(taskRepository.save(task));
+        }
+        // Force a timestamp tie across every row to exercise the id tie-breaker.
+        jdbcTemplate.update("UPDATE tasks SET updated_at = ?", sameInstant);
+
+        Set<Integer> seen = new HashSet<>();
+        String watermark = null;
+        boolean hasMore = true;
+        while (hasMore) {
+            var request = get("/api/tasks/changes").param("limit", "2");
+            if (watermark != null) {
+                request.param("since", watermark);
+            }
+            var body = objectMapper.readTree(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            assertQueryCount(select(2));
+            body.get("changed").forEach(task -> assertTrue(seen.add(task.get("id").asInt())));
+            watermark = body.get("watermark").asText();
+            hasMore = body.get("hasMore").asBoolean();
+        }
+
+        assertEquals(tasks.size(), seen.size());
+    }
+
+    @Test
+    public void testGetChanges_DoesNotRepeatRowsAtTheWatermark() throws Exception {
+        Task kept = new Task();
+        kept.setTitle("Kept");
+        kept.setStatus(TaskStatus.TODO);
+        taskRepository.save(kept);
+        Task removed = new Task();
+        removed.setTitle("Removed");
+        removed.setStatus(TaskStatus.TODO);
+        removed = taskRepository.save(removed);
+        performAndDispatch(mockMvc, delete("/api/tasks/" + removed.getId()))
+                .andExpect(status().isNoContent());
+
+        MvcResult initial = mockMvc.perform(get("/api/tasks/changes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed", hasSize(1)))
+                .andExpect(jsonPath("$.deleted", hasSize(1)))
+                .andReturn();
+        String watermark = objectMapper.readTree(initial.getResponse().getContentAsString()).get("watermark").asText();
+        // Rows stamped exactly at the instant the watermark moved up to were in that answer.
+        ChangeWatermark position = ChangeWatermark.decode(watermark);
+        jdbcTemplate.update("UPDATE tasks SET updated_at = ?", position.taskUpdatedAt());
+        jdbcTemplate.update("UPDATE task_tombstones SET deleted_at = ?", position.tombstoneDeletedAt());
+
+        mockMvc.perform(get("/api/tasks/changes").param("since", watermark))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed", hasSize(0)))
+                .andExpect(jsonPath("$.deleted", hasSize(0)));
+    }
+
+    @Test
+    public void testGetChanges_InvalidOrExpiredWatermark() throws Exception {
+        mockMvc.perform(get("/api/tasks/changes").param("since", "garbage"))
+                .andExpect(status().isBadRequest());
+        assertNoQueries();
+
+        mockMvc.perform(get("/api/tasks/changes").param("since", ChangeWatermark.START.encode()))
+                .andExpect(status().isGone());
+        assertNoQueries();
+    }
+
+    // ==================== GET /api/tasks/stream ====================
+
+    @Test
+    public void testStreamTasks_PushesMutationsAfterCommit() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/tasks/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult created = performAndDispatch(mockMvc, post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Pushed\", \"status\": \"TODO\"}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        assertQueryCount(insert(1));
+        long id = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+        performAndDispatch(mockMvc, delete("/api/tasks/" + id))
+                .andExpect(status().isNoContent());
+        assertQueryCount(insert(1).delete(1));
+
+        String body = awaitContent(stream, "event:deleted");
+        assertTrue(body.contains("event:created"));
+        assertTrue(body.contains("\"title\":\"Pushed\""));
+        assertTrue(body.indexOf("event:created") < body.indexOf("event:deleted"));
+    }
+
+    @Test
+    public void testStreamTasks_ResumesFromLastEventId() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/tasks/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        performAndDispatch(mockMvc, post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Seen\", \"status\": \"TODO\"}"))
+                .andExpect(status().isCreated());
+        assertQueryCount(insert(1));
+        String seen = awaitContent(first, "Seen");
+        String lastEventId = seen.lines()
+                .filter(line -> line.startsWith("id:"))
+                .reduce((a, b) -> b)
+                .orElseThrow()
+                .substring(3);
+
+        performAndDispatch(mockMvc, post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Missed\", \"status\": \"TODO\"}"))
+                .andExpect(status().isCreated());
+        assertQueryCount(insert(1));
+
+        MvcResult resumed = mockMvc.perform(get("/api/tasks/stream").header("Last-Event-ID", lastEventId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String replayed = awaitContent(resumed, "Missed");
+        assertFalse(replayed.contains("Seen"));
+
+        MvcResult stale = mockMvc.perform(get("/api/tasks/stream").header("Last-Event-ID", "other-instance-7"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitContent(stale, "event:reset");
+    }
+
+    // ==================== GET /api/tasks/export ====================
+
+    @Test
+    public void testExportTasks_Ndjson() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            Task task = new Task();
+            task.setTitle("Export Task " + i);
+            task.setStatus(TaskStatus.TODO);
+            taskRepository.save(task);
+        }
+
+        MvcResult started = mockMvc.perform(get("/api/tasks/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(3, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            assertEquals("Export Task " + (i + 1), objectMapper.readTree(lines[i]).get("title").asText());
+        }
+    }
+
+    @Test
+    public void testExportTasks_Csv() throws Exception {
+        Task task = new Task();
+        task.setTitle("Needs, \"quoting\"");
+        task.setStatus(TaskStatus.DONE);
+        taskRepository.save(task);
+
+        MvcResult started = mockMvc.perform(get("/api/tasks/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,uniqueId,title"));
+        assertTrue(lines[1].contains(",\"Needs, \"\"quoting\"\"\",,DONE,true,"));
+    }
+
+    @Test
+    public void testExportTasks_UnsupportedFormat() throws Exception {
+        mockMvc.perform(get("/api/tasks/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported format: xml; supported formats are ndjson and csv"));
+    }
+
+    // ==================== /api/tasks/batch ====================
+
+    @Test
+    public void testCreateTasksBatch_ReportsPerItemResults() throws Exception {
+        String body = "[{\"title\": \"Batch 1\", \"status\": \"TODO\"},"
+                + " {\"title\": \"\", \"status\": \"TODO\"},"
+                + " {\"title\": \"Batch 3\", \"status\": \"DONE\"}]";
+
+        performAndDispatch(mockMvc, post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded", is(2)))
+                .andExpect(jsonPath("$.failed", is(1)))
+                .andExpect(jsonPath("$.items[0].status", is("CREATED")))
+                .andExpect(jsonPath("$.items[0].id", notNullValue()))
+                .andExpect(jsonPath("$.items[1].status", is("INVALID")))
+                .andExpect(jsonPath("$.items[1].error", containsString("Task title cannot be empty")))
+                .andExpect(jsonPath("$.items[2].status", is("CREATED")));
+        assertQueryCount(insert(1));
+
+        assertEquals(2, taskRepository.count());
+    }
+
+    @Test
+    public void testUpdateTasksBatch_PartialUpdatesAndNotFound() throws Exception {
+        Task task = new Task();
+        task.setTitle("Before");
+        task.setDescription("Keep me");
+        task.setStatus(TaskStatus.TODO);
+        Task saved = taskRepository.save(task);
+
+        String body = "[{\"id\": " + saved.getId() + ", \"status\": \"DONE\"},"
+                + " {\"id\": 999999, \"title\": \"Missing\"},"
+                + " {\"title\": \"No id\"}]";
+
+        performAndDispatch(mockMvc, patch("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded", is(1)))
+                .andExpect(jsonPath("$.items[0].status", is("UPDATED")))
+                .andExpect(jsonPath("$.items[1].status", is("NOT_FOUND")))
+                .andExpect(jsonPath("$.items[2].status", is("INVALID")));
+        assertQueryCount(select(1).update(1));
+
+        mockMvc.perform(get("/api/tasks/" + saved.getId()))
+                .andExpect(jsonPath("$.title", is("Before")))
+                .andExpect(jsonPath("$.description", is("Keep me")))
+                .andExpect(jsonPath("$.status", is("DONE")))
+                .andExpect(jsonPath("$.completed", is(true)));
+        assertQueryCount(select(1));
+    }
+
+    @Test
+    public void testDeleteTasksBatch() throws Exception {
+        Task task = new Task();
+        task.setTitle("Delete me");
+        task.setStatus(TaskStatus.TODO);
+        Task saved = taskRepository.save(task);
+
+        performAndDispatch(mockMvc, delete("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + saved.getId() + ", 999999]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded", is(1)))
+                .andExpect(jsonPath("$.items[0].status", is("DELETED")))
+                .andExpect(jsonPath("$.items[1].status", is("NOT_FOUND")));
+        assertQueryCount(select(1).insert(1).delete(1));
+
+        assertEquals(0, taskRepository.count());
+    }
+
+    @Test
+    public void testBatch_EmptyBodyRejected() throws Exception {
+        performAndDispatch(mockMvc, post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("at least one item")));
+        assertNoQueries();
+    }
+
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString();
+        }
+        assertTrue(content.contains(expected), "expected stream to contain " + expected + " but was: " + content);
+        return content;
     }
 
     // ==================== GET /api/tasks/{id} ====================
@@ -76,7 +673,7 @@ public class TaskApiTest {
         Task task = new Task();
         task.setTitle("Get Task Test");
         task.setDescription("Test Description");
-        task.setStatus("TODO");
+        task.setStatus(TaskStatus.TODO);
         Task savedTask = taskRepository.save(task);
 
         mockMvc.perform(get("/api/tasks/" + savedTask.getId()))
@@ -85,12 +682,14 @@ public class TaskApiTest {
                 .andExpect(jsonPath("$.title", is("Get Task Test")))
                 .andExpect(jsonPath("$.description", is("Test Description")))
                 .andExpect(jsonPath("$.status", is("TODO")));
+        assertQueryCount(select(1));
     }
 
     @Test
     public void testGetTaskById_NotFound() throws Exception {
         mockMvc.perform(get("/api/tasks/999"))
                 .andExpect(status().isNotFound());
+        assertQueryCount(select(1));
     }
 
     // ==================== POST /api/tasks ====================
@@ -100,9 +699,9 @@ public class TaskApiTest {
         Task task = new Task();
         task.setTitle("New Task");
         task.setDescription("New Description");
-        task.setStatus("TODO");
+        task.setStatus(TaskStatus.TODO);
 
-        mockMvc.perform(post("/api/tasks")
+        performAndDispatch(mockMvc, post("/api/tasks")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(task)))
                 .andExpect(status().isCreated())
@@ -110,6 +709,18 @@ public class TaskApiTest {
                 .andExpect(jsonPath("$.description", is("New Description")))
                 .andExpect(jsonPath("$.status", is("TODO")))
                 .andExpect(jsonPath("$.id", notNullValue()));
+        assertQueryCount(insert(1));
+    }
+
+    @Test
+    public void testCreateTask_UnknownStatusIsRejected() throws Exception {
+        performAndDispatch(mockMvc, post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Blocked\", \"status\": \"BLOCKED\"}"))
+                .andExpect(status().isBadRequest());
+        assertNoQueries();
+
+        assertEquals(0, taskRepository.count());
     }
 
     @Test
@@ -117,23 +728,25 @@ public class TaskApiTest {
         Task task = new Task();
         task.setTitle("");
         task.setDescription("Description");
-        task.setStatus("TODO");
+        task.setStatus(TaskStatus.TODO);
 
-        mockMvc.perform(post("/api/tasks")
+        performAndDispatch(mockMvc, post("/api/tasks")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(task)))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.message", containsString("Task title cannot be empty")));
+        assertNoQueries();
     }
 
     @Test
     public void testCreateTask_NullTitle() throws Exception {
         String taskJson = "{\"description\": \"Test\", \"status\": \"TODO\"}";
 
-        mockMvc.perform(post("/api/tasks")
+        performAndDispatch(mockMvc, post("/api/tasks")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(taskJson))
                 .andExpect(status().isBadRequest());
+        assertNoQueries();
     }
 
     @Test
@@ -141,10 +754,9 @@ public class TaskApiTest {
         Task task = new Task();
         task.setTitle("Complete Task");
         task.setDescription("Full description with all fields");
-        task.setStatus("DONE");
-        task.setCompleted(true);
+        task.setStatus(TaskStatus.DONE);
 
-        mockMvc.perform(post("/api/tasks")
+        performAndDispatch(mockMvc, post("/api/tasks")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(task)))
                 .andExpect(status().isCreated())
@@ -152,6 +764,7 @@ public class TaskApiTest {
                 .andExpect(jsonPath("$.description", is("Full description with all fields")))
                 .andExpect(jsonPath("$.status", is("DONE")))
                 .andExpect(jsonPath("$.completed", is(true)));
+        assertQueryCount(insert(1));
     }
 
     // ==================== PUT /api/tasks/{id} ====================
@@ -161,16 +774,15 @@ public class TaskApiTest {
         Task originalTask = new Task();
         originalTask.setTitle("Original Title");
         originalTask.setDescription("Original Description");
-        originalTask.setStatus("TODO");
+        originalTask.setStatus(TaskStatus.TODO);
         Task savedTask = taskRepository.save(originalTask);
 
         Task updatedTask = new Task();
         updatedTask.setTitle("Updated Title");
         updatedTask.setDescription("Updated Description");
-        updatedTask.setStatus("DONE");
-        updatedTask.setCompleted(true);
+        updatedTask.setStatus(TaskStatus.DONE);
 
-        mockMvc.perform(put("/api/tasks/" + savedTask.getId())
+        performAndDispatch(mockMvc, put("/api/tasks/" + savedTask.getId())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updatedTask)))
                 .andExpect(status().isOk())
@@ -179,6 +791,7 @@ public class TaskApiTest {
                 .andExpect(jsonPath("$.description", is("Updated Description")))
                 .andExpect(jsonPath("$.status", is("DONE")))
                 .andExpect(jsonPath("$.completed", is(true)));
+        assertQueryCount(select(1).update(1));
     }
 
     @Test
@@ -186,12 +799,13 @@ public class TaskApiTest {
         Task task = new Task();
         task.setTitle("Test");
         task.setDescription("Test");
-        task.setStatus("TODO");
+        task.setStatus(TaskStatus.TODO);
 
-        mockMvc.perform(put("/api/tasks/999")
+        performAndDispatch(mockMvc, put("/api/tasks/999")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(task)))
                 .andExpect(status().isNotFound());
+        assertQueryCount(update(1));
     }
 
     @Test
@@ -199,19 +813,20 @@ public class TaskApiTest {
         Task originalTask = new Task();
         originalTask.setTitle("Original");
         originalTask.setDescription("Description");
-        originalTask.setStatus("TODO");
+        originalTask.setStatus(TaskStatus.TODO);
         Task savedTask = taskRepository.save(originalTask);
 
         Task updatedTask = new Task();
         updatedTask.setTitle("");
         updatedTask.setDescription("New Description");
-        updatedTask.setStatus("DONE");
+        updatedTask.setStatus(TaskStatus.DONE);
 
-        mockMvc.perform(put("/api/tasks/" + savedTask.getId())
+        performAndDispatch(mockMvc, put("/api/tasks/" + savedTask.getId())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updatedTask)))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.message", containsString("Task title cannot be empty")));
+        assertNoQueries();
     }
 
     @Test
@@ -219,20 +834,21 @@ public class TaskApiTest {
         Task originalTask = new Task();
         originalTask.setTitle("Original Title");
         originalTask.setDescription("Original Description");
-        originalTask.setStatus("TODO");
+        originalTask.setStatus(TaskStatus.TODO);
         Task savedTask = taskRepository.save(originalTask);
 
         Task partialUpdate = new Task();
         partialUpdate.setTitle("Partially Updated Title");
         partialUpdate.setDescription("Original Description");
-        partialUpdate.setStatus("TODO");
+        partialUpdate.setStatus(TaskStatus.TODO);
 
-        mockMvc.perform(put("/api/tasks/" + savedTask.getId())
+        performAndDispatch(mockMvc, put("/api/tasks/" + savedTask.getId())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(partialUpdate)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.title", is("Partially Updated Title")))
                 .andExpect(jsonPath("$.description", is("Original Description")));
+        assertQueryCount(select(1).update(1));
     }
 
     // ==================== DELETE /api/tasks/{id} ====================
@@ -242,21 +858,24 @@ public class TaskApiTest {
         Task task = new Task();
         task.setTitle("Task to Delete");
         task.setDescription("Will be deleted");
-        task.setStatus("TODO");
+        task.setStatus(TaskStatus.TODO);
         Task savedTask = taskRepository.save(task);
 
-        mockMvc.perform(delete("/api/tasks/" + savedTask.getId()))
+        performAndDispatch(mockMvc, delete("/api/tasks/" + savedTask.getId()))
                 .andExpect(status().isNoContent());
+        assertQueryCount(insert(1).delete(1));
 
         // Verify task is deleted
         mockMvc.perform(get("/api/tasks/" + savedTask.getId()))
                 .andExpect(status().isNotFound());
+        assertQueryCount(select(1));
     }
 
     @Test
     public void testDeleteTask_NotFound() throws Exception {
-        mockMvc.perform(delete("/api/tasks/999"))
+        performAndDispatch(mockMvc, delete("/api/tasks/999"))
                 .andExpect(status().isNotFound());
+        assertQueryCount(delete(1));
     }
 
     @Test
@@ -264,22 +883,321 @@ public class TaskApiTest {
         Task task = new Task();
         task.setTitle("Task");
         task.setDescription("Description");
-        task.setStatus("TODO");
+        task.setStatus(TaskStatus.TODO);
         Task savedTask = taskRepository.save(task);
 
         // Verify task exists
         mockMvc.perform(get("/api/tasks"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(1)));
+        assertQueryCount(select(1));
 
         // Delete task
-        mockMvc.perform(delete("/api/tasks/" + savedTask.getId()))
+        performAndDispatch(mockMvc, delete("/api/tasks/" + savedTask.getId()))
                 .andExpect(status().isNoContent());
+        assertQueryCount(insert(1).delete(1));
 
         // Verify list is empty
         mockMvc.perform(get("/api/tasks"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(0)));
+        assertQueryCount(select(1));
+    }
+
+    // ==================== Conditional Requests ====================
+
+    @Test
+    public void testGetTaskById_IfNoneMatchReturnsNotModified() throws Exception {
+        Task task = new Task();
+        task.setTitle("Cached");
+        task.setStatus(TaskStatus.TODO);
+        Task saved = taskRepository.save(task);
+
+        String etag = mockMvc.perform(get("/api/tasks/" + saved.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertQueryCount(select(1));
+
+        mockMvc.perform(get("/api/tasks/" + saved.getId()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        assertNoQueries();
+    }
+
+    @Test
+    public void testGetAllTasks_IfNoneMatchTracksChanges() throws Exception {
+        Task task = new Task();
+        task.setTitle("Listed");
+        task.setStatus(TaskStatus.TODO);
+        Task saved = taskRepository.save(task);
+
+        String etag = mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertQueryCount(select(1));
+
+        mockMvc.perform(get("/api/tasks").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        assertQueryCount(select(1));
+
+        performAndDispatch(mockMvc, put("/api/tasks/" + saved.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"DONE\"}"))
+                .andExpect(status().isOk());
+        assertQueryCount(select(1).update(1));
+
+        mockMvc.perform(get("/api/tasks").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status", is("DONE")));
+        assertQueryCount(select(1));
+    }
+
+    @Test
+    public void testUpdateTask_IfMatch() throws Exception {
+        Task task = new Task();
+        task.setTitle("Versioned");
+        task.setStatus(TaskStatus.TODO);
+        Task saved = taskRepository.save(task);
+        String etag = "\"" + saved.getVersion() + "\"";
+
+        String newEtag = performAndDispatch(mockMvc, put("/api/tasks/" + saved.getId())
+                .header("If-Match", etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"First writer\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version", is(saved.getVersion().intValue() + 1)))
+                .andReturn().getResponse().getHeader("ETag");
+        assertQueryCount(select(1).update(1));
+
+        // A second writer still holding the old tag loses instead of overwriting.
+        performAndDispatch(mockMvc, put("/api/tasks/" + saved.getId())
+                .header("If-Match", etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Second writer\"}"))
+                .andExpect(status().isPreconditionFailed());
+        assertQueryCount(select(1).update(1));
+
+        mockMvc.perform(get("/api/tasks/" + saved.getId()))
+                .andExpect(header().string("ETag", newEtag))
+                .andExpect(jsonPath("$.title", is("First writer")));
+        assertQueryCount(select(1));
+    }
+
+    @Test
+    public void testDeleteTask_IfMatch() throws Exception {
+        Task task = new Task();
+        task.setTitle("Versioned delete");
+        task.setStatus(TaskStatus.TODO);
+        Task saved = taskRepository.save(task);
+
+        performAndDispatch(mockMvc, delete("/api/tasks/" + saved.getId()).header("If-Match", "\"" + (saved.getVersion() + 1) + "\""))
+                .andExpect(status().isPreconditionFailed());
+        assertQueryCount(select(1).delete(1));
+
+        performAndDispatch(mockMvc, delete("/api/tasks/" + saved.getId()).header("If-Match", "\"" + saved.getVersion() + "\""))
+                .andExpect(status().isNoContent());
+        assertQueryCount(insert(1).delete(1));
+
+        performAndDispatch(mockMvc, delete("/api/tasks/999").header("If-Match", "\"0\""))
+                .andExpect(status().isNotFound());
+        assertQueryCount(select(1).delete(1));
+    }
+
+    @Test
+    public void testUpdateTask_MalformedIfMatch() throws Exception {
+        performAndDispatch(mockMvc, put("/api/tasks/1")
+                .header("If-Match", "W/\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"x\"}"))
+                .andExpect(status().isBadRequest());
+        assertNoQueries();
+    }
+
+    // ==================== GET /api/tasks/search ====================
+
+    @Test
+    public void testSearchTasks_RankedAndPaged() throws Exception {
+        performAndDispatch(mockMvc, post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Sprint notes\", \"description\": \"Mention the zephyrine migration\"}"))
+                .andExpect(status().isCreated());
+        assertQueryCount(insert(1));
+        String created = performAndDispatch(mockMvc, post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Zephyrine rollout\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        assertQueryCount(insert(1));
+
+        mockMvc.perform(get("/api/tasks/search").param("q", "ZEPHYR"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].title", is("Zephyrine rollout")))
+                .andExpect(jsonPath("$.nextOffset").doesNotExist());
+        assertQueryCount(select(1));
+
+        mockMvc.perform(get("/api/tasks/search").param("q", "zephyrine").param("limit", "1"))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.nextOffset", is(1)));
+        assertQueryCount(select(1));
+
+        Integer id = JsonPath.read(created, "$.id");
+        performAndDispatch(mockMvc, put("/api/tasks/" + id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Renamed\"}"))
+                .andExpect(status().isOk());
+        assertQueryCount(select(1).update(1));
+        mockMvc.perform(get("/api/tasks/search").param("q", "zephyrine"))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].title", is("Sprint notes")));
+        assertQueryCount(select(1));
+    }
+
+    @Test
+    public void testSearchTasks_RequiresQuery() throws Exception {
+        mockMvc.perform(get("/api/tasks/search"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Search query cannot be empty")));
+        assertNoQueries();
+        mockMvc.perform(get("/api/tasks/search").param("q", "task").param("offset", "-1"))
+                .andExpect(status().isBadRequest());
+        assertNoQueries();
+    }
+
+    // ==================== GET /api/tasks/stats ====================
+
+    @Test
+    public void testGetStats_TracksMutations() throws Exception {
+        // setUp clears the table behind the service's back.
+        taskStatistics.reconcile();
+        String yesterday = LocalDateTime.now().minusDays(1).withNano(0).toString();
+        String laterToday = LocalDate.now().atTime(23, 59, 59).toString();
+
+        String overdue = performAndDispatch(mockMvc, post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Late\", \"status\": \"TODO\", \"dueDate\": \"" + yesterday + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        assertQueryCount(insert(1));
+        performAndDispatch(mockMvc, post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Today\", \"status\": \"IN_PROGRESS\", \"dueDate\": \"" + laterToday + "\"}"))
+                .andExpect(status().isCreated());
+        assertQueryCount(insert(1));
+        String batch = performAndDispatch(mockMvc, post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"title\": \"Finished\", \"status\": \"DONE\", \"dueDate\": \"" + yesterday + "\"},"
+                        + " {\"title\": \"Someday\", \"status\": \"TODO\"}]"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertQueryCount(insert(1));
+
+        mockMvc.perform(get("/api/tasks/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(4)))
+                .andExpect(jsonPath("$.byStatus.TODO", is(2)))
+                .andExpect(jsonPath("$.byStatus.IN_PROGRESS", is(1)))
+                .andExpect(jsonPath("$.byStatus.DONE", is(1)))
+                .andExpect(jsonPath("$.overdue", is(1)))
+                .andExpect(jsonPath("$.dueToday", is(1)));
+        assertNoQueries();
+
+        Integer overdueId = JsonPath.read(overdue, "$.id");
+        performAndDispatch(mockMvc, put("/api/tasks/" + overdueId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"DONE\"}"))
+                .andExpect(status().isOk());
+        assertQueryCount(select(1).update(1));
+        Integer somedayId = JsonPath.read(batch, "$.items[1].id");
+        performAndDispatch(mockMvc, delete("/api/tasks/" + somedayId))
+                .andExpect(status().isNoContent());
+        assertQueryCount(insert(1).delete(1));
+
+        mockMvc.perform(get("/api/tasks/stats"))
+                .andExpect(jsonPath("$.total", is(3)))
+                .andExpect(jsonPath("$.byStatus.TODO", is(0)))
+                .andExpect(jsonPath("$.byStatus.DONE", is(2)))
+                .andExpect(jsonPath("$.overdue", is(0)))
+                .andExpect(jsonPath("$.dueToday", is(1)));
+        assertNoQueries();
+
+        // A recount from the database agrees with the incremental counters.
+        taskStatistics.reconcile();
+        mockMvc.perform(get("/api/tasks/stats"))
+                .andExpect(jsonPath("$.total", is(3)))
+                .andExpect(jsonPath("$.byStatus.TODO", is(0)))
+                .andExpect(jsonPath("$.byStatus.IN_PROGRESS", is(1)))
+                .andExpect(jsonPath("$.byStatus.DONE", is(2)))
+                .andExpect(jsonPath("$.overdue", is(0)))
+                .andExpect(jsonPath("$.dueToday", is(1)));
+        assertNoQueries();
+    }
+
+    // ==================== Read Cache ====================
+
+    @Test
+    public void testGetTaskById_CachedUntilWritten() throws Exception {
+        Task task = new Task();
+        task.setTitle("Hot");
+        task.setStatus(TaskStatus.TODO);
+        Task saved = taskRepository.save(task);
+        Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+
+        mockMvc.perform(get("/api/tasks/" + saved.getId()))
+                .andExpect(jsonPath("$.title", is("Hot")));
+        assertQueryCount(select(1));
+        assertNotNull(cache.get(saved.getId()));
+
+        performAndDispatch(mockMvc, put("/api/tasks/" + saved.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Hotter\"}"))
+                .andExpect(status().isOk());
+        assertQueryCount(select(1).update(1));
+        assertNull(cache.get(saved.getId()));
+
+        mockMvc.perform(get("/api/tasks/" + saved.getId()))
+                .andExpect(jsonPath("$.title", is("Hotter")));
+        assertQueryCount(select(1));
+
+        performAndDispatch(mockMvc, patch("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"id\": " + saved.getId() + ", \"status\": \"DONE\"}]"))
+                .andExpect(status().isOk());
+        assertQueryCount(select(1).update(1));
+        mockMvc.perform(get("/api/tasks/" + saved.getId()))
+                .andExpect(jsonPath("$.status", is("DONE")));
+        assertQueryCount(select(1));
+
+        performAndDispatch(mockMvc, delete("/api/tasks/" + saved.getId()))
+                .andExpect(status().isNoContent());
+        assertQueryCount(insert(1).delete(1));
+        mockMvc.perform(get("/api/tasks/" + saved.getId()))
+                .andExpect(status().isNotFound());
+        assertQueryCount(select(1));
+    }
+
+    // ==================== Metrics ====================
+
+    @Test
+    public void testPrometheusScrape_IncludesRequestServiceAndDatabaseMetrics() throws Exception {
+        Task task = new Task();
+        task.setTitle("Measured");
+        task.setStatus(TaskStatus.TODO);
+        Task saved = taskRepository.save(task);
+        mockMvc.perform(get("/api/tasks/" + saved.getId()))
+                .andExpect(status().isOk());
+        assertQueryCount(select(1));
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("tasks_service_seconds_bucket{")))
+                .andExpect(content().string(containsString("method=\"getTaskById\"")))
+                .andExpect(content().string(containsString("tasks_http_queries_count{endpoint=\"GET /api/tasks/{id}\"")))
+                .andExpect(content().string(containsString("hibernate_query_executions_total")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("jvm_gc_pause_seconds")));
+        assertNoQueries();
     }
 
     // ==================== Status Codes & Content-Type Tests ====================
@@ -289,13 +1207,14 @@ public class TaskApiTest {
         Task task = new Task();
         task.setTitle("Content Type Test");
         task.setDescription("Testing content type");
-        task.setStatus("TODO");
+        task.setStatus(TaskStatus.TODO);
 
-        mockMvc.perform(post("/api/tasks")
+        performAndDispatch(mockMvc, post("/api/tasks")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(task)))
                 .andExpect(status().isCreated())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+        assertQueryCount(insert(1));
     }
 
     @Test
@@ -303,6 +1222,46 @@ public class TaskApiTest {
         mockMvc.perform(get("/api/tasks"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+        assertQueryCount(select(1));
+    }
+
+    @Test
+    public void testGetTask_Cbor() throws Exception {
+        Task task = new Task();
+        task.setTitle("Binary Task");
+        task.setStatus(TaskStatus.TODO);
+        task.setDueDate(LocalDateTime.of(2030, 1, 15, 9, 0));
+        task = taskRepository.save(task);
+
+        byte[] body = mockMvc.perform(get("/api/tasks/" + task.getId()).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertQueryCount(select(1));
+
+        JsonNode decoded = CBOR.readTree(body);
+        assertEquals("Binary Task", decoded.get("title").asText());
+        assertEquals("2030-01-15T09:00:00", decoded.get("dueDate").asText());
+    }
+
+    @Test
+    public void testCreateTask_CborRequestAndResponse() throws Exception {
+        Task task = new Task();
+        task.setTitle("Sent as CBOR");
+        task.setStatus(TaskStatus.IN_PROGRESS);
+
+        byte[] body = performAndDispatch(mockMvc, post("/api/tasks")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .content(CBOR.writeValueAsBytes(task)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertQueryCount(insert(1));
+
+        JsonNode decoded = CBOR.readTree(body);
+        assertEquals("Sent as CBOR", decoded.get("title").asText());
+        assertEquals("IN_PROGRESS", decoded.get("status").asText());
     }
 
     // ==================== CORS Tests ====================
@@ -312,6 +1271,7 @@ public class TaskApiTest {
         mockMvc.perform(get("/api/tasks")
                 .header("Origin", "http://localhost:5173"))
                 .andExpect(status().isOk());
+        assertQueryCount(select(1));
     }
 
     // ==================== Edge Cases ====================
@@ -321,13 +1281,14 @@ public class TaskApiTest {
         Task task = new Task();
         task.setTitle("a".repeat(100)); // Max length for title
         task.setDescription("Description");
-        task.setStatus("TODO");
+        task.setStatus(TaskStatus.TODO);
 
-        mockMvc.perform(post("/api/tasks")
+        performAndDispatch(mockMvc, post("/api/tasks")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(task)))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.title", hasLength(100)));
+        assertQueryCount(insert(1));
     }
 
     @Test
@@ -335,13 +1296,14 @@ public class TaskApiTest {
         Task task = new Task();
         task.setTitle("Title");
         task.setDescription("d".repeat(500)); // Max length for description
-        task.setStatus("TODO");
+        task.setStatus(TaskStatus.TODO);
 
-        mockMvc.perform(post("/api/tasks")
+        performAndDispatch(mockMvc, post("/api/tasks")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(task)))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.description", hasLength(500)));
+        assertQueryCount(insert(1));
     }
 
     @Test
@@ -349,19 +1311,21 @@ public class TaskApiTest {
         Task task = new Task();
         task.setTitle("   "); // Only whitespace
         task.setDescription("Description");
-        task.setStatus("TODO");
+        task.setStatus(TaskStatus.TODO);
 
-        mockMvc.perform(post("/api/tasks")
+        performAndDispatch(mockMvc, post("/api/tasks")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(task)))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.message", containsString("Task title cannot be empty")));
+        assertNoQueries();
     }
 
     @Test
     public void testGetTaskById_WithInvalidId() throws Exception {
         mockMvc.perform(get("/api/tasks/invalid"))
                 .andExpect(status().isBadRequest());
+        assertNoQueries();
     }
 
     // ==================== Multiple Operations ====================
@@ -372,17 +1336,19 @@ public class TaskApiTest {
             Task task = new Task();
             task.setTitle("Task " + i);
             task.setDescription("Description " + i);
-            task.setStatus("TODO");
+            task.setStatus(TaskStatus.TODO);
 
-            mockMvc.perform(post("/api/tasks")
+            performAndDispatch(mockMvc, post("/api/tasks")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(task)))
                     .andExpect(status().isCreated());
+            assertQueryCount(insert(1));
         }
 
         mockMvc.perform(get("/api/tasks"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(5)));
+        assertQueryCount(select(1));
     }
 
     @Test
@@ -391,13 +1357,14 @@ public class TaskApiTest {
         Task task = new Task();
         task.setTitle("Workflow Task");
         task.setDescription("Original");
-        task.setStatus("TODO");
+        task.setStatus(TaskStatus.TODO);
 
-        MvcResult createResult = mockMvc.perform(post("/api/tasks")
+        MvcResult createResult = performAndDispatch(mockMvc, post("/api/tasks")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(task)))
                 .andExpect(status().isCreated())
                 .andReturn();
+        assertQueryCount(insert(1));
 
         String response = createResult.getResponse().getContentAsString();
         Long taskId = objectMapper.readTree(response).get("id").asLong();
@@ -406,20 +1373,23 @@ public class TaskApiTest {
         Task updatedTask = new Task();
         updatedTask.setTitle("Updated Workflow Task");
         updatedTask.setDescription("Updated");
-        updatedTask.setStatus("IN_PROGRESS");
+        updatedTask.setStatus(TaskStatus.IN_PROGRESS);
 
-        mockMvc.perform(put("/api/tasks/" + taskId)
+        performAndDispatch(mockMvc, put("/api/tasks/" + taskId)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updatedTask)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.title", is("Updated Workflow Task")));
+        assertQueryCount(select(1).update(1));
 
         // Delete task
-        mockMvc.perform(delete("/api/tasks/" + taskId))
+        performAndDispatch(mockMvc, delete("/api/tasks/" + taskId))
                 .andExpect(status().isNoContent());
+        assertQueryCount(insert(1).delete(1));
 
         // Verify deletion
         mockMvc.perform(get("/api/tasks/" + taskId))
                 .andExpect(status().isNotFound());
+        assertQueryCount(select(1));
     }
 }
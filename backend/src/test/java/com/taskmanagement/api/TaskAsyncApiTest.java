@@ -0,0 +1,120 @@
+package com.taskmanagement.api;
+
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.service.TaskAsyncService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static com.taskmanagement.support.AsyncDispatch.performAndDispatch;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Writes on a pool of one worker with room for one queued write, so that a
+ * blocked worker fills it after a single request.
+ */
+@SpringBootTest(properties = {
+        "tasks.async.threads=1",
+        "tasks.async.queue-capacity=1"
+})
+@AutoConfigureMockMvc
+class TaskAsyncApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskAsyncService taskAsyncService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void writesBeyondQueueCapacityAreShedWith503() throws Exception {
+        long waited = meterRegistry.get("tasks.async.wait").tag("operation", "create").timer().count();
+        CountDownLatch release = new CountDownLatch(1);
+        occupyWorker(release);
+        try {
+            MvcResult queued = mockMvc.perform(post("/api/tasks")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\": \"Queued\"}"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            assertEquals(1.0, gauge("tasks.async.queued", "create"));
+
+            performAndDispatch(mockMvc, post("/api/tasks")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\": \"Shed\"}"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"));
+            assertEquals(1.0, meterRegistry.get("tasks.async.rejected").tag("operation", "create").counter().count());
+
+            release.countDown();
+            mockMvc.perform(asyncDispatch(queued))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.title").value("Queued"));
+        } finally {
+            release.countDown();
+        }
+
+        assertEquals(1, taskRepository.count());
+        assertEquals(0.0, gauge("tasks.async.queued", "create"));
+        assertEquals(waited + 1, meterRegistry.get("tasks.async.wait").tag("operation", "create").timer().count());
+    }
+
+    @Test
+    void failuresKeepTheirStatusCodes() throws Exception {
+        performAndDispatch(mockMvc, put("/api/tasks/999")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Missing\"}"))
+                .andExpect(status().isNotFound());
+
+        performAndDispatch(mockMvc, post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Task title cannot be empty"));
+
+        performAndDispatch(mockMvc, delete("/api/tasks/1").header("If-Match", "not-an-etag"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /** Blocks the only worker until {@code release} opens. */
+    private void occupyWorker(CountDownLatch release) throws InterruptedException {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(taskAsyncService, "executor");
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+    }
+
+    private double gauge(String name, String operation) {
+        return meterRegistry.get(name).tag("operation", operation).gauge().value();
+    }
+}
@@ -0,0 +1,117 @@
+package com.taskmanagement.api;
+
+import com.jayway.jsonpath.JsonPath;
+import com.taskmanagement.support.CountQueries;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static com.taskmanagement.support.AsyncDispatch.performAndDispatch;
+import static com.taskmanagement.support.QueryCountAssertions.assertNoQueries;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * {@code GET /api/tasks/due}. Tests share one application context and do not
+ * clear the table, so each works in its own year.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@CountQueries
+class TaskDueApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void rangeListsOpenTasksByDueDateWithoutQueries() throws Exception {
+        create("Later", "TODO", "2091-01-01T09:00:00");
+        create("Sooner", "IN_PROGRESS", "2091-01-01T08:00:00");
+        create("Next day", "TODO", "2091-01-02T00:00:00");
+        create("Done", "DONE", "2091-01-01T10:00:00");
+        create("No due date", "TODO", null);
+
+        mockMvc.perform(get("/api/tasks/due")
+                        .param("after", "2091-01-01T00:00:00")
+                        .param("before", "2091-01-02T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].title", contains("Sooner", "Later")))
+                .andExpect(jsonPath("$.hasMore").value(false));
+        assertNoQueries();
+    }
+
+    @Test
+    void writesMoveTasksInAndOut() throws Exception {
+        long done = create("Completed later", "TODO", "2092-01-01T09:00:00");
+        long moved = create("Postponed", "TODO", "2092-01-01T10:00:00");
+        long deleted = create("Deleted", "TODO", "2092-01-01T11:00:00");
+        long reopened = create("Reopened", "DONE", "2092-01-01T12:00:00");
+
+        update(done, "{\"status\": \"DONE\"}");
+        update(moved, "{\"dueDate\": \"2092-02-01T10:00:00\"}");
+        performAndDispatch(mockMvc, delete("/api/tasks/" + deleted)).andExpect(status().isNoContent());
+        update(reopened, "{\"status\": \"IN_PROGRESS\"}");
+
+        mockMvc.perform(get("/api/tasks/due")
+                        .param("after", "2092-01-01T00:00:00")
+                        .param("before", "2092-01-02T00:00:00"))
+                .andExpect(jsonPath("$.items[*].title", contains("Reopened")));
+        mockMvc.perform(get("/api/tasks/due")
+                        .param("after", "2092-01-02T00:00:00")
+                        .param("before", "2093-01-01T00:00:00"))
+                .andExpect(jsonPath("$.items[*].title", contains("Postponed")))
+                .andExpect(jsonPath("$.items[0].dueDate").value("2092-02-01T10:00:00"));
+    }
+
+    @Test
+    void limitReportsMore() throws Exception {
+        for (int hour = 10; hour < 13; hour++) {
+            create("Task " + hour, "TODO", "2093-01-01T" + hour + ":00:00");
+        }
+
+        mockMvc.perform(get("/api/tasks/due")
+                        .param("after", "2093-01-01T00:00:00")
+                        .param("before", "2094-01-01T00:00:00")
+                        .param("limit", "2"))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[*].title", contains("Task 10", "Task 11")))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    void invalidRangeIsRejected() throws Exception {
+        mockMvc.perform(get("/api/tasks/due").param("before", "tomorrow"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tasks/due")
+                        .param("after", "2094-01-02T00:00:00")
+                        .param("before", "2094-01-01T00:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("after must be earlier than before"));
+        mockMvc.perform(get("/api/tasks/due").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private long create(String title, String status, String dueDate) throws Exception {
+        String body = "{\"title\": \"" + title + "\", \"status\": \"" + status + "\""
+                + (dueDate == null ? "" : ", \"dueDate\": \"" + dueDate + "\"") + "}";
+        MvcResult created = performAndDispatch(mockMvc, post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return ((Number) JsonPath.read(created.getResponse().getContentAsString(), "$.id")).longValue();
+    }
+
+    private void update(long id, String body) throws Exception {
+        performAndDispatch(mockMvc, put("/api/tasks/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,203 @@
+package com.taskmanagement.api;
+
+import com.jayway.jsonpath.JsonPath;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.service.TaskAsyncService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static com.taskmanagement.support.AsyncDispatch.performAndDispatch;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * {@code Idempotency-Key} on task creation, with keys in memory only. One write
+ * worker, so a test can hold a create in flight, and room for one key, so the
+ * next key evicts it.
+ */
+@SpringBootTest(properties = {
+        "tasks.async.threads=1",
+        "tasks.idempotency.max-keys=1"
+})
+@AutoConfigureMockMvc
+class TaskIdempotencyApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskAsyncService taskAsyncService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void retryReturnsTheOriginalTask() throws Exception {
+        double replayed = counter("tasks.idempotency.replayed");
+
+        MvcResult first = performAndDispatch(mockMvc, create("retry-1", "Buy milk"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "false"))
+                .andReturn();
+        Integer id = JsonPath.read(first.getResponse().getContentAsString(), "$.id");
+
+        performAndDispatch(mockMvc, create("retry-1", "Buy milk"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(header().string("ETag", first.getResponse().getHeader("ETag")))
+                .andExpect(jsonPath("$.id").value(id))
+                .andExpect(jsonPath("$.title").value("Buy milk"));
+
+        assertEquals(1, taskRepository.count());
+        assertEquals(replayed + 1, counter("tasks.idempotency.replayed"));
+    }
+
+    @Test
+    void keyReusedForAnotherRequestIsRejected() throws Exception {
+        performAndDispatch(mockMvc, create("reuse-1", "Buy milk"))
+                .andExpect(status().isCreated());
+
+        performAndDispatch(mockMvc, create("reuse-1", "Buy bread"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message").value("Idempotency-Key was already used for a different request"));
+
+        assertEquals(1, taskRepository.count());
+    }
+
+    @Test
+    void concurrentDuplicatesShareOneInsert() throws Exception {
+        double joined = counter("tasks.idempotency.joined");
+        CountDownLatch release = new CountDownLatch(1);
+        occupyWorker(release);
+        MvcResult first;
+        MvcResult second;
+        try {
+            first = mockMvc.perform(create("concurrent-1", "Buy milk"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            second = mockMvc.perform(create("concurrent-1", "Buy milk"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            assertEquals(joined + 1, counter("tasks.idempotency.joined"));
+        } finally {
+            release.countDown();
+        }
+
+        MvcResult created = mockMvc.perform(asyncDispatch(first))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "false"))
+                .andReturn();
+        Integer id = JsonPath.read(created.getResponse().getContentAsString(), "$.id");
+        mockMvc.perform(asyncDispatch(second))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(id));
+
+        assertEquals(1, taskRepository.count());
+    }
+
+    @Test
+    void failedCreateCanBeRetriedWithTheSameKey() throws Exception {
+        performAndDispatch(mockMvc, create("failed-1", ""))
+                .andExpect(status().isBadRequest());
+
+        performAndDispatch(mockMvc, create("failed-1", "Buy milk"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "false"));
+
+        assertEquals(1, taskRepository.count());
+    }
+
+    @Test
+    void invalidKeyIsRejected() throws Exception {
+        performAndDispatch(mockMvc, create("k".repeat(256), "Buy milk"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Idempotency-Key cannot be longer than 255 characters"));
+        performAndDispatch(mockMvc, create(" ", "Buy milk"))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(0, taskRepository.count());
+    }
+
+    @Test
+    void evictedKeyIsForgotten() throws Exception {
+        double evicted = counter("tasks.idempotency.evicted");
+
+        MvcResult first = performAndDispatch(mockMvc, create("evicted-1", "Buy milk")).andReturn();
+        performAndDispatch(mockMvc, create("evicted-2", "Buy bread"));
+        MvcResult retry = performAndDispatch(mockMvc, create("evicted-1", "Buy milk"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "false"))
+                .andReturn();
+
+        Integer firstId = JsonPath.read(first.getResponse().getContentAsString(), "$.id");
+        Integer retryId = JsonPath.read(retry.getResponse().getContentAsString(), "$.id");
+        assertNotEquals(firstId, retryId);
+        assertEquals(3, taskRepository.count());
+        // Earlier tests may have left a key behind, which the first create evicts.
+        assertTrue(counter("tasks.idempotency.evicted") >= evicted + 2);
+        assertEquals(1.0, meterRegistry.get("tasks.idempotency.keys").gauge().value());
+    }
+
+    @Test
+    void requestsWithoutKeyAreNotDeduplicated() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            performAndDispatch(mockMvc, post("/api/tasks")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\": \"Buy milk\"}"))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().doesNotExist("Idempotent-Replayed"));
+        }
+
+        assertEquals(2, taskRepository.count());
+    }
+
+    private static MockHttpServletRequestBuilder create(String key, String title) {
+        return post("/api/tasks")
+                .header("Idempotency-Key", key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"" + title + "\"}");
+    }
+
+    /** Blocks the only worker until {@code release} opens. */
+    private void occupyWorker(CountDownLatch release) throws InterruptedException {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(taskAsyncService, "executor");
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+}
@@ -0,0 +1,141 @@
+package com.taskmanagement.api;
+
+import com.jayway.jsonpath.JsonPath;
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskStatus;
+import com.taskmanagement.repository.TaskIdempotencyKeyRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.service.IdempotentCreate;
+import com.taskmanagement.service.TaskAsyncService;
+import com.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.taskmanagement.support.AsyncDispatch.performAndDispatch;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * {@code Idempotency-Key} with keys also recorded in the database. Memory holds
+ * a single key, so a retry after another create is answered from the table.
+ */
+@SpringBootTest(properties = {
+        "tasks.idempotency.database=true",
+        "tasks.idempotency.max-keys=1"
+})
+@AutoConfigureMockMvc
+class TaskIdempotencyDatabaseApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskIdempotencyKeyRepository taskIdempotencyKeyRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskAsyncService taskAsyncService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        taskIdempotencyKeyRepository.deleteAll();
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void evictedKeyIsReplayedFromTheDatabase() throws Exception {
+        MvcResult first = performAndDispatch(mockMvc, create("db-1", "Buy milk"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Integer id = JsonPath.read(first.getResponse().getContentAsString(), "$.id");
+        performAndDispatch(mockMvc, create("db-2", "Buy bread"))
+                .andExpect(status().isCreated());
+
+        performAndDispatch(mockMvc, create("db-1", "Buy milk"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(id));
+        performAndDispatch(mockMvc, create("db-2", "Buy milk"))
+                .andExpect(status().isUnprocessableEntity());
+
+        assertEquals(2, taskRepository.count());
+        assertEquals(2, taskIdempotencyKeyRepository.count());
+        assertEquals(id.longValue(), taskIdempotencyKeyRepository.findById("db-1").orElseThrow().getTaskId());
+    }
+
+    @Test
+    void keyForDeletedTaskIsRejected() throws Exception {
+        MvcResult first = performAndDispatch(mockMvc, create("deleted-1", "Buy milk")).andReturn();
+        Integer id = JsonPath.read(first.getResponse().getContentAsString(), "$.id");
+        performAndDispatch(mockMvc, create("deleted-2", "Buy bread"));
+        performAndDispatch(mockMvc, delete("/api/tasks/" + id))
+                .andExpect(status().isNoContent());
+
+        performAndDispatch(mockMvc, create("deleted-1", "Buy milk"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message").value(
+                        "Idempotency-Key was used for task " + id + ", which has since been deleted"));
+
+        assertEquals(1, taskRepository.count());
+    }
+
+    @Test
+    void keyRecordedConcurrentlyElsewhereIsReplayed() throws Exception {
+        Task task = new Task("Buy milk", null, TaskStatus.TODO);
+        int requestHash = 42;
+        CompletableFuture<IdempotentCreate> racing = new CompletableFuture<>();
+
+        // Another instance records the key and commits while our create is running.
+        Task original = transactionTemplate.execute(status -> {
+            Task created = taskService.createTask(task, "race-1", requestHash).task();
+            taskIdempotencyKeyRepository.flush();
+            taskAsyncService.createTask(new Task("Buy milk", null, TaskStatus.TODO), "race-1", requestHash)
+                    .whenComplete((result, error) -> {
+                        if (error != null) {
+                            racing.completeExceptionally(error);
+                        } else {
+                            racing.complete(result);
+                        }
+                    });
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return created;
+        });
+
+        IdempotentCreate replay = racing.get(10, TimeUnit.SECONDS);
+        assertTrue(replay.replayed());
+        assertEquals(original.getId(), replay.task().getId());
+        assertEquals(1, taskRepository.count());
+    }
+
+    private static MockHttpServletRequestBuilder create(String key, String title) {
+        return post("/api/tasks")
+                .header("Idempotency-Key", key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"" + title + "\"}");
+    }
+}
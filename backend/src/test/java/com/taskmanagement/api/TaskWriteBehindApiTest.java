@@ -0,0 +1,252 @@
+package com.taskmanagement.api;
+
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskStatus;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TaskTombstoneRepository;
+import com.taskmanagement.service.TaskWriteBehind;
+import com.taskmanagement.support.CountQueries;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.taskmanagement.support.AsyncDispatch.performAndDispatch;
+import static com.taskmanagement.support.QueryCountAssertions.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * PUT with write-behind enabled. The flush interval is long enough that
+ * nothing is written until a test calls {@link TaskWriteBehind#flush()}.
+ */
+@SpringBootTest(properties = {
+        "tasks.write-behind.enabled=true",
+        "tasks.write-behind.ack=enqueue",
+        "tasks.write-behind.flush-interval=1h",
+        "tasks.write-behind.max-pending=2",
+        "tasks.write-behind.enqueue-timeout=0ms"
+})
+@AutoConfigureMockMvc
+@CountQueries
+class TaskWriteBehindApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskWriteBehind taskWriteBehind;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        taskWriteBehind.flush();
+        taskRepository.deleteAll();
+        taskTombstoneRepository.deleteAll();
+    }
+
+    @Test
+    void queuedUpdatesAreServedByIdAndWrittenAsOne() throws Exception {
+        Task task = save("Queued");
+
+        performAndDispatch(mockMvc, put("/api/tasks/" + task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"IN_PROGRESS\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+        assertQueryCount(select(1));
+
+        // Merged into the queued entry: no database work at all.
+        performAndDispatch(mockMvc, put("/api/tasks/" + task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Renamed\",\"status\":\"IN_PROGRESS\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""));
+        assertNoQueries();
+
+        mockMvc.perform(get("/api/tasks/" + task.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Renamed"))
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.version").value(2));
+        assertNoQueries();
+
+        Task stored = taskRepository.findById(task.getId()).orElseThrow();
+        assertEquals(TaskStatus.TODO, stored.getStatus());
+        assertEquals(0L, stored.getVersion());
+
+        taskWriteBehind.flush();
+
+        stored = taskRepository.findById(task.getId()).orElseThrow();
+        assertEquals("Renamed", stored.getTitle());
+        assertEquals(TaskStatus.IN_PROGRESS, stored.getStatus());
+        assertEquals(2L, stored.getVersion());
+        assertTrue(taskWriteBehind.find(task.getId()).isEmpty());
+    }
+
+    @Test
+    void ifMatchIsCheckedAgainstQueuedVersion() throws Exception {
+        Task task = save("Conditional");
+        performAndDispatch(mockMvc, put("/api/tasks/" + task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"DONE\"}"))
+                .andExpect(status().isOk());
+
+        performAndDispatch(mockMvc, put("/api/tasks/" + task.getId())
+                        .header("If-Match", "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Stale\"}"))
+                .andExpect(status().isPreconditionFailed());
+        assertNoQueries();
+
+        performAndDispatch(mockMvc, put("/api/tasks/" + task.getId())
+                        .header("If-Match", "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Current\",\"status\":\"DONE\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completed").value(true));
+    }
+
+    @Test
+    void fullQueueRejectsUpdatesToOtherTasks() throws Exception {
+        Task first = save("First");
+        Task second = save("Second");
+        Task third = save("Third");
+        queueStatus(first, "IN_PROGRESS");
+        queueStatus(second, "IN_PROGRESS");
+
+        performAndDispatch(mockMvc, put("/api/tasks/" + third.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"DONE\"}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+        assertNoQueries();
+
+        // Tasks already queued take more updates without needing room.
+        queueStatus(first, "DONE");
+
+        taskWriteBehind.flush();
+        queueStatus(third, "DONE");
+    }
+
+    @Test
+    void deleteWritesQueuedUpdatesFirst() throws Exception {
+        Task task = save("Delete me");
+        queueStatus(task, "IN_PROGRESS");
+
+        // The ETag the client holds is the queued version.
+        performAndDispatch(mockMvc, delete("/api/tasks/" + task.getId()).header("If-Match", "\"1\""))
+                .andExpect(status().isNoContent());
+
+        assertFalse(taskRepository.existsById(task.getId()));
+        assertTrue(taskWriteBehind.find(task.getId()).isEmpty());
+    }
+
+    @Test
+    void updatesToTaskDeletedBeforeFlushAreDropped() throws Exception {
+        Task task = save("Gone");
+        queueStatus(task, "DONE");
+        taskRepository.deleteById(task.getId());
+
+        taskWriteBehind.flush();
+
+        mockMvc.perform(get("/api/tasks/" + task.getId()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void oversizedValuesAreRejectedBeforeQueueing() throws Exception {
+        Task task = save("Short");
+
+        performAndDispatch(mockMvc, put("/api/tasks/" + task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + "t".repeat(Task.MAX_TITLE_LENGTH + 1) + "\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Task title cannot be longer than 100 characters"));
+        performAndDispatch(mockMvc, put("/api/tasks/" + task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"description\":\"" + "d".repeat(Task.MAX_DESCRIPTION_LENGTH + 1) + "\"}"))
+                .andExpect(status().isBadRequest());
+
+        assertTrue(taskWriteBehind.find(task.getId()).isEmpty());
+    }
+
+    @Test
+    void updateTheDatabaseRejectsLeavesTheQueueWithoutBlockingOthers() throws Exception {
+        Task poisoned = save("Poisoned");
+        Task healthy = save("Healthy");
+        jdbcTemplate.execute("ALTER TABLE tasks ADD CONSTRAINT test_no_poison CHECK (title <> 'Poison')");
+        try {
+            performAndDispatch(mockMvc, put("/api/tasks/" + poisoned.getId())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\":\"Poison\"}"))
+                    .andExpect(status().isOk());
+            queueStatus(healthy, "DONE");
+
+            taskWriteBehind.flush();
+
+            assertTrue(taskWriteBehind.find(poisoned.getId()).isEmpty());
+            assertTrue(taskWriteBehind.find(healthy.getId()).isEmpty());
+            assertEquals("Poisoned", taskRepository.findById(poisoned.getId()).orElseThrow().getTitle());
+            assertEquals(TaskStatus.DONE, taskRepository.findById(healthy.getId()).orElseThrow().getStatus());
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE tasks DROP CONSTRAINT test_no_poison");
+        }
+
+        // The permit went back with the dropped entry: two tasks can queue again.
+        queueStatus(poisoned, "DONE");
+        queueStatus(healthy, "TODO");
+    }
+
+    @Test
+    void ackAfterFlushWaitsForCommit() throws Exception {
+        Task task = save("Durable");
+        ReflectionTestUtils.setField(taskWriteBehind, "ack", TaskWriteBehind.Ack.FLUSH);
+        try {
+            Task changes = new Task();
+            changes.setStatus(TaskStatus.DONE);
+
+            // Acknowledged only once written, despite the hour-long interval.
+            Task updated = taskWriteBehind.update(task.getId(), changes, null);
+
+            assertEquals(1L, updated.getVersion());
+            assertTrue(taskWriteBehind.find(task.getId()).isEmpty());
+            Task stored = taskRepository.findById(task.getId()).orElseThrow();
+            assertEquals(TaskStatus.DONE, stored.getStatus());
+            assertEquals(stored.getUpdatedAt(), updated.getUpdatedAt());
+        } finally {
+            ReflectionTestUtils.setField(taskWriteBehind, "ack", TaskWriteBehind.Ack.ENQUEUE);
+        }
+    }
+
+    private Task save(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(TaskStatus.TODO);
+        return taskRepository.save(task);
+    }
+
+    private void queueStatus(Task task, String status) throws Exception {
+        performAndDispatch(mockMvc, put("/api/tasks/" + task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"" + status + "\"}"))
+                .andExpect(status().isOk());
+    }
+}
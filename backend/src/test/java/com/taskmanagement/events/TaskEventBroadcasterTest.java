@@ -0,0 +1,109 @@
+package com.taskmanagement.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskEventBroadcasterTest {
+
+    private final Deque<ClientEmitter> clients = new ArrayDeque<>();
+    private final TaskEventBroadcaster broadcaster =
+            new TaskEventBroadcaster(16, 16, 1, Duration.ofMinutes(1), Duration.ofMillis(100)) {
+                @Override
+                SseEmitter newEmitter(long timeoutMillis) {
+                    return clients.removeFirst();
+                }
+            };
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void stalledSendDoesNotHoldBackOtherSubscribers() throws Exception {
+        ReflectionTestUtils.setField(broadcaster, "objectMapper", new ObjectMapper().findAndRegisterModules());
+        ClientEmitter stuck = new ClientEmitter(new CountDownLatch(1));
+        ClientEmitter healthy = new ClientEmitter(null);
+        clients.add(stuck);
+        clients.add(healthy);
+
+        // The only dispatcher thread ends up blocked writing to the stuck client.
+        broadcaster.subscribe(null);
+        broadcaster.onTaskEvent(TaskEvent.created(task(1L)));
+        assertTrue(stuck.entered.await(5, TimeUnit.SECONDS));
+
+        broadcaster.subscribe(null);
+        broadcaster.onTaskEvent(TaskEvent.created(task(2L)));
+        Thread.sleep(200);
+        assertEquals(0, healthy.sent.get(), "the blocked thread holds back the healthy subscriber");
+
+        broadcaster.expireStalledSends();
+        awaitSent(healthy, 1);
+        assertEquals(1, broadcaster.subscriberCount());
+
+        // Once the write returns, the stalled subscriber is completed.
+        stuck.release.countDown();
+        assertTrue(stuck.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(1, broadcaster.subscriberCount());
+    }
+
+    private static Task task(Long id) {
+        Task task = new Task("Task " + id, "Description", TaskStatus.TODO);
+        task.setId(id);
+        return task;
+    }
+
+    private static void awaitSent(ClientEmitter client, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (client.sent.get() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, client.sent.get());
+    }
+
+    /** Stands in for a client; with a {@code release} latch its first write blocks until released. */
+    private static final class ClientEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final AtomicInteger sent = new AtomicInteger();
+
+        private ClientEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            entered.countDown();
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            sent.incrementAndGet();
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.taskmanagement.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskEventLogTest {
+
+    @Test
+    void replaysEventsAfterGivenId() {
+        TaskEventLog log = new TaskEventLog(4);
+        log.append("created", "1");
+        log.append("updated", "2");
+        log.append("deleted", "3");
+
+        List<TaskEventLog.Entry> missed = log.after(1);
+
+        assertEquals(2, missed.size());
+        assertEquals(2, missed.get(0).id());
+        assertEquals("deleted", missed.get(1).name());
+    }
+
+    @Test
+    void upToDateClientGetsNothing() {
+        TaskEventLog log = new TaskEventLog(4);
+        log.append("created", "1");
+
+        assertTrue(log.after(1).isEmpty());
+    }
+
+    @Test
+    void overwrittenGapCannotBeReplayed() {
+        TaskEventLog log = new TaskEventLog(3);
+        for (int i = 0; i < 5; i++) {
+            log.append("updated", String.valueOf(i));
+        }
+
+        assertNull(log.after(1));
+        assertEquals(List.of(4L, 5L), log.after(3).stream().map(TaskEventLog.Entry::id).toList());
+        assertEquals(3, log.after(2).size());
+    }
+
+    @Test
+    void unknownFutureIdCannotBeReplayed() {
+        TaskEventLog log = new TaskEventLog(3);
+        log.append("created", "1");
+
+        assertNull(log.after(42));
+        assertNull(log.after(-1));
+    }
+}
@@ -0,0 +1,141 @@
+package com.taskmanagement.integration;
+
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskStatus;
+import com.taskmanagement.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Fires waves of simultaneous list and get-by-id requests at the running server
+ * and reports p50/p99 latency per concurrency level. Run once per mode and
+ * compare:
+ *
+ * <pre>
+ * mvn test -Dtest=ConcurrencyBenchmarkTest -Dperf=true                   # platform threads (Java 17+)
+ * mvn -Pvirtual-threads test -Dtest=ConcurrencyBenchmarkTest -Dperf=true # virtual threads (Java 21)
+ * </pre>
+ *
+ * The highest level that completes without errors and under the p99 budget is
+ * reported as the maximum sustainable concurrency.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnabledIfSystemProperty(named = "perf", matches = "true")
+class ConcurrencyBenchmarkTest {
+
+    private static final int[] LEVELS = {50, 200, 500, 1000, 2000};
+    private static final int WAVES = 5;
+    private static final Duration P99_BUDGET = Duration.ofSeconds(1);
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAllInBatch();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            Task task = new Task();
+            task.setTitle("Benchmark task " + i);
+            task.setDescription("Seeded for the concurrency benchmark");
+            task.setStatus(i % 3 == 0 ? TaskStatus.DONE : TaskStatus.TODO);
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks).forEach(task -> ids.add(task.getId()));
+    }
+
+    @Test
+    void latencyByConcurrencyLevel() {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        runLevel(client, 50); // warm-up
+
+        System.out.printf("%nmode: %s threads%n", virtualThreads ? "virtual" : "platform");
+        System.out.printf("%12s %10s %10s %10s %10s %8s%n", "concurrency", "p50 ms", "p99 ms", "max ms", "req/s", "errors");
+        int maxSustained = 0;
+        for (int level : LEVELS) {
+            Result result = runLevel(client, level);
+            System.out.printf("%12d %10.1f %10.1f %10.1f %10.0f %8d%n", level,
+                    result.percentile(50), result.percentile(99), result.percentile(100),
+                    result.throughput(), result.errors);
+            if (result.errors == 0 && result.percentile(99) <= P99_BUDGET.toMillis()) {
+                maxSustained = level;
+            }
+        }
+        System.out.printf("max sustained concurrency (p99 <= %d ms, no errors): %d%n",
+                P99_BUDGET.toMillis(), maxSustained);
+        assertTrue(maxSustained > 0, "no concurrency level met the p99 budget");
+    }
+
+    private Result runLevel(HttpClient client, int concurrency) {
+        long[] latencies = new long[concurrency * WAVES];
+        AtomicInteger errors = new AtomicInteger();
+        long start = System.nanoTime();
+        for (int wave = 0; wave < WAVES; wave++) {
+            List<CompletableFuture<Void>> inFlight = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                int slot = wave * concurrency + i;
+                // Mix of list pages and single-task reads.
+                String path = i % 2 == 0
+                        ? "/api/tasks?limit=50&sort=updated"
+                        : "/api/tasks/" + ids.get(slot % ids.size());
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                        .timeout(Duration.ofSeconds(30))
+                        .build();
+                long sent = System.nanoTime();
+                inFlight.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        .handle((response, failure) -> {
+                            latencies[slot] = System.nanoTime() - sent;
+                            if (failure != null || response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                            return null;
+                        }));
+            }
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+        }
+        return new Result(latencies, errors.get(), System.nanoTime() - start);
+    }
+
+    private record Result(long[] latencies, int errors, long elapsedNanos) {
+
+        double percentile(int p) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+
+        double throughput() {
+            return latencies.length / (elapsedNanos / 1e9);
+        }
+    }
+}
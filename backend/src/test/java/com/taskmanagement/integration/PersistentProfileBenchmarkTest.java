@@ -0,0 +1,120 @@
+package com.taskmanagement.integration;
+
+import com.taskmanagement.TaskManagementApplication;
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskStatus;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.service.BatchResult;
+import com.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Startup time and write throughput of the {@code persistent} profile with a
+ * million tasks. Starts and stops the application several times against one
+ * data directory, so it only runs on demand:
+ * {@code mvn test -Dtest=PersistentProfileBenchmarkTest -Dperf=true}
+ * ({@code -Dperf.tasks=...} changes the row count).
+ */
+@EnabledIfSystemProperty(named = "perf", matches = "true")
+class PersistentProfileBenchmarkTest {
+
+    private static final int TASKS = Integer.getInteger("perf.tasks", 1_000_000);
+    private static final int BATCH = 10_000;
+    private static final int SINGLE = 10_000;
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void startupAndWriteThroughput() throws IOException {
+        long start = System.nanoTime();
+        ConfigurableApplicationContext context = start();
+        long coldStartNanos = System.nanoTime() - start;
+
+        TaskService taskService = context.getBean(TaskService.class);
+        start = System.nanoTime();
+        for (int created = 0; created < TASKS; created += BATCH) {
+            BatchResult result = taskService.createTasks(tasks(created, Math.min(BATCH, TASKS - created)));
+            assertEquals(0, result.failed());
+        }
+        long batchNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (Task task : tasks(TASKS, SINGLE)) {
+            taskService.createTask(task);
+        }
+        long singleNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        context.close();
+        long shutdownNanos = System.nanoTime() - start;
+        long fileBytes = Files.size(dataDir.resolve("taskdb.mv.db"));
+
+        long restartNanos = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            start = System.nanoTime();
+            context = start();
+            restartNanos = Math.min(restartNanos, System.nanoTime() - start);
+            assertEquals(TASKS + SINGLE, context.getBean(TaskRepository.class).count());
+            context.close();
+        }
+
+        start = System.nanoTime();
+        context = start("--spring.jpa.hibernate.ddl-auto=validate");
+        long validatedRestartNanos = System.nanoTime() - start;
+        context.close();
+
+        // What a restart after a crash costs: the search index is rebuilt from the database.
+        FileSystemUtils.deleteRecursively(dataDir.resolve("search-index"));
+        start = System.nanoTime();
+        context = start();
+        long reindexRestartNanos = System.nanoTime() - start;
+        context.close();
+
+        System.out.printf("first start (empty, migrate):  %,d ms%n", coldStartNanos / 1_000_000);
+        System.out.printf("batch create:                  %,.0f tasks/s (%,d tasks in batches of %,d)%n",
+                TASKS / (batchNanos / 1e9), TASKS, BATCH);
+        System.out.printf("single-item create:            %,.0f tasks/s%n", SINGLE / (singleNanos / 1e9));
+        System.out.printf("shutdown (incl. compaction):   %,d ms%n", shutdownNanos / 1_000_000);
+        System.out.printf("database file:                 %,d MB%n", fileBytes / (1024 * 1024));
+        System.out.printf("restart:                       %,d ms%n", restartNanos / 1_000_000);
+        System.out.printf("restart with schema checks:    %,d ms%n", validatedRestartNanos / 1_000_000);
+        System.out.printf("restart with search reindex:   %,d ms%n", reindexRestartNanos / 1_000_000);
+    }
+
+    private ConfigurableApplicationContext start(String... args) {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--tasks.data-dir=" + dataDir,
+                "--logging.level.com.taskmanagement=INFO"));
+        arguments.addAll(List.of(args));
+        return new SpringApplicationBuilder(TaskManagementApplication.class)
+                .profiles("persistent")
+                .run(arguments.toArray(String[]::new));
+    }
+
+    private static List<Task> tasks(int first, int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = first; i < first + count; i++) {
+            Task task = new Task();
+            task.setTitle("Imported task " + i);
+            task.setDescription("Generated for the persistent profile benchmark");
+            task.setStatus(i % 3 == 0 ? TaskStatus.DONE : TaskStatus.TODO);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
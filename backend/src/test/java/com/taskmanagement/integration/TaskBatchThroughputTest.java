@@ -0,0 +1,81 @@
+package com.taskmanagement.integration;
+
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskStatus;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.service.BatchResult;
+import com.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the single-item service path (one transaction and one INSERT round
+ * trip per task) with the batch path. Timing-based, so it only runs on demand:
+ * {@code mvn test -Dtest=TaskBatchThroughputTest -Dperf=true}
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "perf", matches = "true")
+class TaskBatchThroughputTest {
+
+    private static final int TASKS = 10_000;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void compareSingleItemAndBatchCreate() {
+        // Warm up both paths so JIT compilation is not attributed to either.
+        createOneByOne(tasks(2_000));
+        taskService.createTasks(tasks(2_000));
+        taskRepository.deleteAllInBatch();
+
+        long start = System.nanoTime();
+        createOneByOne(tasks(TASKS));
+        long singleNanos = System.nanoTime() - start;
+        taskRepository.deleteAllInBatch();
+
+        List<Task> batch = tasks(TASKS);
+        start = System.nanoTime();
+        BatchResult result = taskService.createTasks(batch);
+        long batchNanos = System.nanoTime() - start;
+
+        assertEquals(TASKS, result.succeeded());
+        System.out.printf("single-item create: %,.0f tasks/s%n", TASKS / (singleNanos / 1e9));
+        System.out.printf("batch create:       %,.0f tasks/s (%.1fx)%n",
+                TASKS / (batchNanos / 1e9), (double) singleNanos / batchNanos);
+    }
+
+    private void createOneByOne(List<Task> tasks) {
+        for (Task task : tasks) {
+            taskService.createTask(task);
+        }
+    }
+
+    private static List<Task> tasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task();
+            task.setTitle("Imported task " + i);
+            task.setDescription("Generated for the throughput comparison");
+            task.setStatus(i % 3 == 0 ? TaskStatus.DONE : TaskStatus.TODO);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
@@ -1,7 +1,9 @@
 package com.taskmanagement.integration;
 
 import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskStatus;
 import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.support.CountQueries;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,12 +13,15 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import static com.taskmanagement.support.AsyncDispatch.performAndDispatch;
+import static com.taskmanagement.support.QueryCountAssertions.*;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
 @AutoConfigureMockMvc
+@CountQueries
 class TaskIntegrationTest {
 
     @Autowired
@@ -38,16 +43,16 @@ class TaskIntegrationTest {
         Task newTask = new Task();
         newTask.setTitle("Integration Test Task");
         newTask.setDescription("Testing CRUD operations");
-        newTask.setStatus("TODO");
-        newTask.setCompleted(false);
+        newTask.setStatus(TaskStatus.TODO);
 
         // CREATE
-        var response = mockMvc.perform(post("/api/tasks")
+        var response = performAndDispatch(mockMvc, post("/api/tasks")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(newTask)))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.title").value("Integration Test Task"))
                 .andReturn();
+        assertQueryCount(insert(1));
 
         String responseBody = response.getResponse().getContentAsString();
         Long taskId = objectMapper.readTree(responseBody).get("id").asLong();
@@ -58,6 +63,7 @@ class TaskIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(taskId))
                 .andExpect(jsonPath("$.title").value("Integration Test Task"));
+        assertQueryCount(select(1));
     }
 
     @Test
@@ -65,15 +71,15 @@ class TaskIntegrationTest {
         Task newTask = new Task();
         newTask.setTitle("CRUD Test Task");
         newTask.setDescription("Original description");
-        newTask.setStatus("TODO");
-        newTask.setCompleted(false);
+        newTask.setStatus(TaskStatus.TODO);
 
         // CREATE
-        var createResponse = mockMvc.perform(post("/api/tasks")
+        var createResponse = performAndDispatch(mockMvc, post("/api/tasks")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(newTask)))
                 .andExpect(status().isCreated())
                 .andReturn();
+        assertQueryCount(insert(1));
 
         Long taskId = objectMapper.readTree(createResponse.getResponse().getContentAsString()).get("id").asLong();
 
@@ -81,25 +87,27 @@ class TaskIntegrationTest {
         Task updateData = new Task();
         updateData.setTitle("Updated CRUD Test Task");
         updateData.setDescription("Updated description");
-        updateData.setStatus("IN_PROGRESS");
-        updateData.setCompleted(false);
+        updateData.setStatus(TaskStatus.IN_PROGRESS);
 
-        mockMvc.perform(put("/api/tasks/" + taskId)
+        performAndDispatch(mockMvc, put("/api/tasks/" + taskId)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updateData)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.title").value("Updated CRUD Test Task"))
                 .andExpect(jsonPath("$.description").value("Updated description"));
+        assertQueryCount(select(1).update(1));
 
         // DELETE
-        mockMvc.perform(delete("/api/tasks/" + taskId)
+        performAndDispatch(mockMvc, delete("/api/tasks/" + taskId)
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNoContent());
+        assertQueryCount(insert(1).delete(1));
 
         // VERIFY DELETION
         mockMvc.perform(get("/api/tasks/" + taskId)
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
+        assertQueryCount(select(1));
     }
 
     @Test
@@ -107,25 +115,25 @@ class TaskIntegrationTest {
         Task task1 = new Task();
         task1.setTitle("Task 1");
         task1.setDescription("Description 1");
-        task1.setStatus("TODO");
-        task1.setCompleted(false);
+        task1.setStatus(TaskStatus.TODO);
 
         Task task2 = new Task();
         task2.setTitle("Task 2");
         task2.setDescription("Description 2");
-        task2.setStatus("DONE");
-        task2.setCompleted(true);
+        task2.setStatus(TaskStatus.DONE);
 
         // Create two tasks
-        mockMvc.perform(post("/api/tasks")
+        performAndDispatch(mockMvc, post("/api/tasks")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(task1)))
                 .andExpect(status().isCreated());
+        assertQueryCount(insert(1));
 
-        mockMvc.perform(post("/api/tasks")
+        performAndDispatch(mockMvc, post("/api/tasks")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(task2)))
                 .andExpect(status().isCreated());
+        assertQueryCount(insert(1));
 
         // Get all tasks
         mockMvc.perform(get("/api/tasks")
@@ -134,6 +142,7 @@ class TaskIntegrationTest {
                 .andExpect(jsonPath("$", hasSize(2)))
                 .andExpect(jsonPath("$[0].title").value("Task 1"))
                 .andExpect(jsonPath("$[1].title").value("Task 2"));
+        assertQueryCount(select(1));
     }
 
     @Test
@@ -141,28 +150,28 @@ class TaskIntegrationTest {
         Task newTask = new Task();
         newTask.setTitle("Task to Complete");
         newTask.setDescription("This task will be completed");
-        newTask.setStatus("TODO");
-        newTask.setCompleted(false);
+        newTask.setStatus(TaskStatus.TODO);
 
-        var createResponse = mockMvc.perform(post("/api/tasks")
+        var createResponse = performAndDispatch(mockMvc, post("/api/tasks")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(newTask)))
                 .andExpect(status().isCreated())
                 .andReturn();
+        assertQueryCount(insert(1));
 
         Long taskId = objectMapper.readTree(createResponse.getResponse().getContentAsString()).get("id").asLong();
 
         // Mark as completed
         Task completeData = new Task();
-        completeData.setCompleted(true);
-        completeData.setStatus("DONE");
+        completeData.setStatus(TaskStatus.DONE);
 
-        mockMvc.perform(put("/api/tasks/" + taskId)
+        performAndDispatch(mockMvc, put("/api/tasks/" + taskId)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(completeData)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.completed").value(true))
                 .andExpect(jsonPath("$.status").value("DONE"));
+        assertQueryCount(select(1).update(1));
     }
 
     @Test
@@ -170,16 +179,16 @@ class TaskIntegrationTest {
         Task newTask = new Task();
         newTask.setTitle("Task with Due Date");
         newTask.setDescription("This task has a due date");
-        newTask.setStatus("TODO");
-        newTask.setCompleted(false);
+        newTask.setStatus(TaskStatus.TODO);
         newTask.setDueDate(java.time.LocalDateTime.now().plusDays(7));
 
-        mockMvc.perform(post("/api/tasks")
+        performAndDispatch(mockMvc, post("/api/tasks")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(newTask)))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.title").value("Task with Due Date"))
                 .andExpect(jsonPath("$.dueDate").exists());
+        assertQueryCount(insert(1));
     }
 
     @Test
@@ -189,13 +198,13 @@ class TaskIntegrationTest {
             Task task = new Task();
             task.setTitle("Task " + i);
             task.setDescription("Description for task " + i);
-            task.setStatus("TODO");
-            task.setCompleted(false);
+            task.setStatus(TaskStatus.TODO);
 
-            mockMvc.perform(post("/api/tasks")
+            performAndDispatch(mockMvc, post("/api/tasks")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(task)))
                     .andExpect(status().isCreated());
+            assertQueryCount(insert(1));
         }
 
         // Verify all 5 tasks are in the database
@@ -203,5 +212,6 @@ class TaskIntegrationTest {
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(5)));
+        assertQueryCount(select(1));
     }
 }
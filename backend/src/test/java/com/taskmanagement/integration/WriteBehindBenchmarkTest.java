@@ -0,0 +1,140 @@
+package com.taskmanagement.integration;
+
+import com.taskmanagement.TaskManagementApplication;
+import com.taskmanagement.controller.TaskController;
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskStatus;
+import com.taskmanagement.service.BatchResult;
+import com.taskmanagement.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Kanban-style bursts of status updates against the {@code persistent}
+ * profile: many concurrent PUTs to a small set of hot tasks. Runs once
+ * synchronously and once per write-behind acknowledgement mode, each against a
+ * fresh database:
+ * {@code mvn test -Dtest=WriteBehindBenchmarkTest -Dperf=true}
+ */
+@EnabledIfSystemProperty(named = "perf", matches = "true")
+class WriteBehindBenchmarkTest {
+
+    private static final int TASKS = 1_000;
+    private static final int HOT_TASKS = 100;
+    private static final int THREADS = 16;
+    private static final int UPDATES_PER_THREAD = 2_000;
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void statusUpdateBursts() throws Exception {
+        System.out.printf("%nupdates: %,d from %d threads over %d hot tasks%n",
+                THREADS * UPDATES_PER_THREAD, THREADS, HOT_TASKS);
+        System.out.printf("%-22s %10s %9s %9s %8s %10s %12s%n",
+                "mode", "updates/s", "p50 ms", "p99 ms", "errors", "rows", "shutdown ms");
+        run("sync", "--tasks.write-behind.enabled=false");
+        run("write-behind flush", "--tasks.write-behind.enabled=true", "--tasks.write-behind.ack=flush");
+        run("write-behind enqueue", "--tasks.write-behind.enabled=true", "--tasks.write-behind.ack=enqueue");
+    }
+
+    private void run(String mode, String... args) throws Exception {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--tasks.data-dir=" + dataDir.resolve(mode.replace(' ', '-')),
+                "--logging.level.com.taskmanagement=INFO"));
+        arguments.addAll(List.of(args));
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskManagementApplication.class)
+                .profiles("persistent")
+                .run(arguments.toArray(String[]::new));
+
+        BatchResult seeded = context.getBean(TaskService.class).createTasks(tasks());
+        assertEquals(0, seeded.failed());
+        List<Long> hot = seeded.items().subList(0, HOT_TASKS).stream().map(BatchResult.Item::id).toList();
+        TaskController controller = context.getBean(TaskController.class);
+        MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+
+        burst(controller, hot, 200); // warm-up
+        double rowsBefore = meterRegistry.counter("tasks.writebehind.rows").count();
+
+        long[] latencies = new long[THREADS * UPDATES_PER_THREAD];
+        AtomicInteger errors = new AtomicInteger();
+        ExecutorService clients = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        List<Future<?>> running = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            running.add(clients.submit(() -> {
+                for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                    long sent = System.nanoTime();
+                    if (!update(controller, hot).getStatusCode().is2xxSuccessful()) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[thread * UPDATES_PER_THREAD + i] = System.nanoTime() - sent;
+                }
+            }));
+        }
+        for (Future<?> future : running) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        clients.shutdown();
+
+        long closing = System.nanoTime();
+        context.close();
+        long shutdown = System.nanoTime() - closing;
+        // Read after shutdown, which flushes whatever was still queued.
+        double rows = meterRegistry.counter("tasks.writebehind.rows").count() - rowsBefore;
+
+        Arrays.sort(latencies);
+        System.out.printf("%-22s %,10.0f %9.2f %9.2f %8d %10s %,12d%n", mode,
+                latencies.length / (elapsed / 1e9),
+                latencies[latencies.length / 2] / 1e6,
+                latencies[(int) (latencies.length * 0.99)] / 1e6,
+                errors.get(),
+                rows == 0 ? "-" : String.format("%,.0f", rows),
+                shutdown / 1_000_000);
+    }
+
+    private static void burst(TaskController controller, List<Long> hot, int updates) {
+        for (int i = 0; i < updates; i++) {
+            update(controller, hot);
+        }
+    }
+
+    private static ResponseEntity<?> update(TaskController controller, List<Long> hot) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Task changes = new Task();
+        changes.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+        return controller.updateTask(hot.get(random.nextInt(hot.size())), changes, null).join();
+    }
+
+    private static List<Task> tasks() {
+        List<Task> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setTitle("Board task " + i);
+            task.setStatus(TaskStatus.TODO);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
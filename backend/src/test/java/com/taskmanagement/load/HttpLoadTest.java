@@ -0,0 +1,243 @@
+package com.taskmanagement.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.load.LoadMix.Operation;
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskStatus;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.service.BatchResult;
+import com.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Open-model HTTP load test: requests are started at a fixed arrival rate
+ * whether or not earlier ones have finished, as real clients would, and each
+ * latency is measured from the request's scheduled start. Reports p50, p99,
+ * p99.9 and throughput per endpoint, writes them to
+ * {@code target/load-report-<mix>.json}, and fails if any endpoint breaches
+ * the p99 or error-rate threshold.
+ *
+ * <pre>
+ * mvn test -Dtest=HttpLoadTest -Dperf=true
+ * mvn test -Dtest=HttpLoadTest -Dperf=true -Dload.mix=write-heavy -Dload.rate=500 -Dload.duration=PT1M
+ * mvn -Pvirtual-threads test -Dtest=HttpLoadTest -Dperf=true
+ * </pre>
+ *
+ * Settings (system properties): {@code load.mix} (read-heavy, write-heavy,
+ * list-heavy), {@code load.rate} (requests per second), {@code load.duration},
+ * {@code load.warmup}, {@code load.seed-rows}, {@code load.p99-ms} and
+ * {@code load.max-error-rate}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnabledIfSystemProperty(named = "perf", matches = "true")
+class HttpLoadTest {
+
+    private static final LoadMix MIX = LoadMix.fromName(System.getProperty("load.mix", "read-heavy"));
+    private static final int RATE = Integer.getInteger("load.rate", 100);
+    private static final Duration DURATION = Duration.parse(System.getProperty("load.duration", "PT30S"));
+    private static final Duration WARMUP = Duration.parse(System.getProperty("load.warmup", "PT10S"));
+    private static final int SEED_ROWS = Integer.getInteger("load.seed-rows", 10_000);
+    private static final double P99_MILLIS = Double.parseDouble(System.getProperty("load.p99-ms", "100"));
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("load.max-error-rate", "0.001"));
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final List<Long> seededIds = new ArrayList<>();
+    /** Tasks created by the run; deletes take from here so reads never hit a 404. */
+    private final Queue<Long> createdIds = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAllInBatch();
+        for (int created = 0; created < SEED_ROWS; created += 10_000) {
+            List<Task> tasks = new ArrayList<>();
+            for (int i = created; i < Math.min(created + 10_000, SEED_ROWS); i++) {
+                Task task = new Task();
+                task.setTitle("Seeded task " + i);
+                task.setDescription("Created before the load test starts");
+                task.setStatus(TaskStatus.valueOf(STATUSES[i % STATUSES.length]));
+                tasks.add(task);
+            }
+            taskService.createTasks(tasks).items().stream()
+                    .map(BatchResult.Item::id)
+                    .forEach(seededIds::add);
+        }
+    }
+
+    @Test
+    void endpointsMeetLatencyThresholds() throws Exception {
+        run(WARMUP, new Random(1));
+        Map<Operation, EndpointStats> stats = run(DURATION, new Random(42));
+
+        report(stats);
+        List<String> breaches = new ArrayList<>();
+        stats.forEach((operation, endpoint) -> {
+            if (endpoint.count() == 0) {
+                return;
+            }
+            if (endpoint.percentileMillis(99) > P99_MILLIS) {
+                breaches.add(String.format("%s p99 %.1f ms > %.1f ms",
+                        operation.label, endpoint.percentileMillis(99), P99_MILLIS));
+            }
+            if (endpoint.errorRate() > MAX_ERROR_RATE) {
+                breaches.add(String.format("%s error rate %.2f%% > %.2f%%",
+                        operation.label, endpoint.errorRate() * 100, MAX_ERROR_RATE * 100));
+            }
+        });
+        assertTrue(breaches.isEmpty(), String.join("; ", breaches));
+    }
+
+    private Map<Operation, EndpointStats> run(Duration duration, Random random) throws Exception {
+        Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats());
+        }
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / RATE;
+        long requests = duration.toNanos() / intervalNanos;
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (long i = 0; i < requests; i++) {
+            long scheduled = start + i * intervalNanos;
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = MIX.next(random);
+            if (operation == Operation.DELETE && createdIds.isEmpty()) {
+                operation = Operation.CREATE;
+            }
+            Operation sent = operation;
+            EndpointStats endpoint = stats.get(operation);
+            inFlight.add(client.sendAsync(request(operation, random), HttpResponse.BodyHandlers.ofString())
+                    .handle((response, error) -> {
+                        boolean success = error == null && response.statusCode() < 400;
+                        endpoint.record(System.nanoTime() - scheduled, success);
+                        if (success && sent == Operation.CREATE) {
+                            Matcher id = ID.matcher(response.body());
+                            if (id.find()) {
+                                createdIds.add(Long.valueOf(id.group(1)));
+                            }
+                        }
+                        return null;
+                    }));
+        }
+        // Every request times out on its own, so this only waits for the slowest.
+        CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0])).join();
+        return stats;
+    }
+
+    private HttpRequest request(Operation operation, Random random) {
+        Long id = seededIds.get(random.nextInt(seededIds.size()));
+        return switch (operation) {
+            case GET_BY_ID -> get("/api/tasks/" + id);
+            case LIST -> get("/api/tasks?limit=50");
+            case LIST_FILTERED -> get("/api/tasks?status=" + STATUSES[random.nextInt(2)] + "&sort=due&limit=50");
+            case CREATE -> json("/api/tasks", "POST",
+                    "{\"title\": \"Load task " + random.nextInt(1_000_000) + "\", \"status\": \"TODO\"}");
+            case UPDATE -> json("/api/tasks/" + id, "PUT",
+                    "{\"title\": \"Updated under load\", \"status\": \""
+                            + STATUSES[random.nextInt(STATUSES.length)] + "\"}");
+            case DELETE -> HttpRequest.newBuilder(uri("/api/tasks/" + createdIds.poll()))
+                    .timeout(REQUEST_TIMEOUT)
+                    .DELETE()
+                    .build();
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).timeout(REQUEST_TIMEOUT).GET().build();
+    }
+
+    private HttpRequest json(String path, String method, String body) {
+        return HttpRequest.newBuilder(uri(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private void report(Map<Operation, EndpointStats> stats) throws IOException {
+        double seconds = DURATION.toMillis() / 1000.0;
+        System.out.printf("%nmix=%s rate=%d/s duration=%s seed-rows=%d%n",
+                MIX.name().toLowerCase().replace('_', '-'), RATE, DURATION, SEED_ROWS);
+        System.out.printf("%-32s %8s %9s %9s %9s %9s %9s %7s%n",
+                "endpoint", "count", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "errors");
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("mix", MIX.name());
+        json.put("rate", RATE);
+        json.put("durationSeconds", seconds);
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        stats.forEach((operation, endpoint) -> {
+            if (endpoint.count() == 0) {
+                return;
+            }
+            System.out.printf("%-32s %8d %9.1f %9.2f %9.2f %9.2f %9.2f %7d%n", operation.label,
+                    endpoint.count(), endpoint.count() / seconds, endpoint.percentileMillis(50),
+                    endpoint.percentileMillis(99), endpoint.percentileMillis(99.9), endpoint.maxMillis(),
+                    endpoint.errors());
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", endpoint.count());
+            summary.put("throughput", endpoint.count() / seconds);
+            summary.put("p50Ms", endpoint.percentileMillis(50));
+            summary.put("p99Ms", endpoint.percentileMillis(99));
+            summary.put("p999Ms", endpoint.percentileMillis(99.9));
+            summary.put("maxMs", endpoint.maxMillis());
+            summary.put("errors", endpoint.errors());
+            endpoints.put(operation.label, summary);
+        });
+        json.put("endpoints", endpoints);
+
+        File file = new File("target/load-report-" + MIX.name().toLowerCase().replace('_', '-') + ".json");
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file, json);
+        System.out.println("Report written to " + file);
+    }
+}
@@ -0,0 +1,74 @@
+package com.taskmanagement.load;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Weighted request mixes for {@link HttpLoadTest}.
+ */
+enum LoadMix {
+
+    READ_HEAVY(Map.of(
+            Operation.GET_BY_ID, 70,
+            Operation.LIST, 15,
+            Operation.CREATE, 5,
+            Operation.UPDATE, 8,
+            Operation.DELETE, 2)),
+    WRITE_HEAVY(Map.of(
+            Operation.GET_BY_ID, 20,
+            Operation.LIST, 5,
+            Operation.CREATE, 35,
+            Operation.UPDATE, 30,
+            Operation.DELETE, 10)),
+    LIST_HEAVY(Map.of(
+            Operation.GET_BY_ID, 15,
+            Operation.LIST, 45,
+            Operation.LIST_FILTERED, 35,
+            Operation.CREATE, 5));
+
+    /** One kind of request; {@code label} names it in the report. */
+    enum Operation {
+        GET_BY_ID("GET /api/tasks/{id}"),
+        LIST("GET /api/tasks"),
+        LIST_FILTERED("GET /api/tasks?status&sort=due"),
+        CREATE("POST /api/tasks"),
+        UPDATE("PUT /api/tasks/{id}"),
+        DELETE("DELETE /api/tasks/{id}");
+
+        final String label;
+
+        Operation(String label) {
+            this.label = label;
+        }
+    }
+
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    LoadMix(Map<Operation, Integer> weights) {
+        Map<Operation, Integer> ordered = new EnumMap<>(weights);
+        operations = ordered.keySet().toArray(new Operation[0]);
+        cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += ordered.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    Operation next(Random random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < operations.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    /** Accepts the enum name or its kebab-case form, e.g. {@code read-heavy}. */
+    static LoadMix fromName(String name) {
+        return valueOf(name.trim().toUpperCase().replace('-', '_'));
+    }
+}
@@ -0,0 +1,61 @@
+package com.taskmanagement.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryMetricsListenerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final QueryMetricsListener listener = new QueryMetricsListener(() -> registry, Duration.ofMillis(100));
+
+    @AfterEach
+    void tearDown() {
+        EndpointQueryContext.end();
+    }
+
+    @Test
+    void countsStatementsForCurrentEndpoint() {
+        EndpointQueryContext.begin("GET /api/tasks/{id}");
+
+        execute(5);
+        execute(7);
+
+        EndpointQueryContext context = EndpointQueryContext.end();
+        assertEquals("GET /api/tasks/{id}", context.endpoint());
+        assertEquals(2, context.queries());
+        assertNull(registry.find("tasks.db.slow.queries").counter());
+    }
+
+    @Test
+    void tagsSlowStatementsWithEndpoint() {
+        EndpointQueryContext.begin("PUT /api/tasks/{id}");
+
+        execute(250);
+
+        assertEquals(1, registry.get("tasks.db.slow.queries").tag("endpoint", "PUT /api/tasks/{id}").counter().count());
+    }
+
+    @Test
+    void slowStatementOutsideRequestIsTaggedNone() {
+        execute(100);
+
+        assertEquals(1, registry.get("tasks.db.slow.queries")
+                .tag("endpoint", QueryMetricsListener.NO_ENDPOINT).counter().count());
+    }
+
+    private void execute(long elapsedMillis) {
+        ExecutionInfo info = new ExecutionInfo();
+        info.setElapsedTime(elapsedMillis);
+        QueryInfo query = new QueryInfo("SELECT * FROM tasks WHERE id = ?");
+        listener.beforeQuery(info, List.of(query));
+        listener.afterQuery(info, List.of(query));
+    }
+}
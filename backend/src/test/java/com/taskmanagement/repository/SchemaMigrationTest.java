@@ -0,0 +1,26 @@
+package com.taskmanagement.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The application boots with {@code ddl-auto=none}, so nothing checks the
+ * migrated schema against the entities at startup. This test does: with
+ * {@code validate}, Hibernate refuses to start if a table, column or type the
+ * entities expect is missing.
+ */
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Test
+    void migrationsMatchEntities() {
+        assertEquals(0, flyway.info().pending().length);
+    }
+}
@@ -0,0 +1,171 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskStatus;
+import com.taskmanagement.model.TaskField;
+import com.taskmanagement.model.TaskSort;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * Runs the list queries through the repository, captures the SQL Hibernate
+ * generates and checks H2's EXPLAIN output for the expected index and for the
+ * ORDER BY being served by that index rather than a sort.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.taskmanagement.repository.TaskRepositoryQueryPlanTest$SqlCapture")
+class TaskRepositoryQueryPlanTest {
+
+    private static final String SORTED = "/* index sorted */";
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        List<Task> tasks = new ArrayList<>();
+        TaskStatus[] statuses = TaskStatus.values();
+        for (int i = 0; i < 300; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setStatus(statuses[i % 3]);
+            task.setDueDate(i % 5 == 0 ? null : LocalDateTime.now().plusHours(i));
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void updatedSortUsesUpdatedIndex() {
+        String plan = explain(() -> taskRepository.findPage(null, null, TaskSort.UPDATED, null, 20, TaskField.SUMMARY));
+
+        assertThat(plan, containsString("IDX_TASKS_UPDATED"));
+        assertThat(plan, containsString(SORTED));
+    }
+
+    @Test
+    void updatedSortSeekUsesUpdatedIndex() {
+        TaskProjection last = taskRepository.findPage(null, null, TaskSort.UPDATED, null, 20, TaskField.SUMMARY).get(19);
+        TaskCursor cursor = TaskCursor.after(TaskSort.UPDATED, last);
+
+        String plan = explain(() -> taskRepository.findPage(null, null, TaskSort.UPDATED, cursor, 20, TaskField.SUMMARY));
+
+        assertThat(plan, containsString("IDX_TASKS_UPDATED"));
+        assertThat(plan, containsString(SORTED));
+    }
+
+    @Test
+    void statusSortUsesStatusIndex() {
+        String plan = explain(() -> taskRepository.findPage(null, null, TaskSort.STATUS, null, 20, TaskField.SUMMARY));
+
+        assertThat(plan, containsString("IDX_TASKS_STATUS_UPDATED"));
+        assertThat(plan, containsString(SORTED));
+    }
+
+    @Test
+    void statusFilterUsesStatusIndexForLookupAndOrder() {
+        String plan = explain(() -> taskRepository.findPage(TaskStatus.TODO, null, TaskSort.UPDATED, null, 20, TaskField.SUMMARY));
+
+        assertThat(plan, containsString("IDX_TASKS_STATUS_UPDATED"));
+        assertThat(plan, not(containsString("tableScan")));
+        assertThat(plan, containsString(SORTED));
+    }
+
+    @Test
+    void dueSortUsesDueIndex() {
+        String plan = explain(() -> taskRepository.findPage(null, null, TaskSort.DUE, null, 20, TaskField.SUMMARY));
+
+        assertThat(plan, containsString("IDX_TASKS_DUE"));
+        assertThat(plan, containsString(SORTED));
+    }
+
+    @Test
+    void statusFilterByDueUsesStatusDueIndex() {
+        String plan = explain(() -> taskRepository.findPage(TaskStatus.TODO, null, TaskSort.DUE, null, 20, TaskField.SUMMARY));
+
+        assertThat(plan, containsString("IDX_TASKS_STATUS_DUE"));
+        assertThat(plan, not(containsString("tableScan")));
+        assertThat(plan, containsString(SORTED));
+    }
+
+    @Test
+    void completedTasksByDueUseStatusDueIndex() {
+        String plan = explain(() -> taskRepository.findPage(null, true, TaskSort.DUE, null, 20, TaskField.SUMMARY));
+
+        assertThat(plan, containsString("IDX_TASKS_STATUS_DUE"));
+        assertThat(plan, not(containsString("tableScan")));
+        assertThat(plan, containsString(SORTED));
+    }
+
+    @Test
+    void openTasksByDueUseOpenDueIndex() {
+        String plan = explain(() -> taskRepository.findPage(null, false, TaskSort.DUE, null, 20, TaskField.SUMMARY));
+
+        assertThat(plan, containsString("IDX_TASKS_OPEN_DUE"));
+        assertThat(plan, not(containsString("tableScan")));
+        assertThat(plan, containsString(SORTED));
+    }
+
+    @Test
+    void openTasksByDueSeekUsesOpenDueIndex() {
+        TaskProjection last = taskRepository.findPage(null, false, TaskSort.DUE, null, 20, TaskField.SUMMARY).get(19);
+        TaskCursor cursor = TaskCursor.after(TaskSort.DUE, last);
+
+        String plan = explain(() -> taskRepository.findPage(null, false, TaskSort.DUE, cursor, 20, TaskField.SUMMARY));
+
+        assertThat(plan, containsString("IDX_TASKS_OPEN_DUE"));
+        assertThat(plan, not(containsString("tableScan")));
+        assertThat(plan, containsString(SORTED));
+    }
+
+    @Test
+    void summaryPageReadsOnlySummaryColumns() {
+        SqlCapture.statements.clear();
+        taskRepository.findPage(null, null, TaskSort.UPDATED, null, 20, TaskField.SUMMARY);
+        String sql = SqlCapture.statements.get(SqlCapture.statements.size() - 1);
+
+        assertThat(sql, containsString("updated_at"));
+        assertThat(sql, not(containsString("description")));
+        assertThat(sql, not(containsString("unique_id")));
+        assertThat(sql, not(containsString("created_at")));
+    }
+
+    private String explain(Runnable query) {
+        SqlCapture.statements.clear();
+        query.run();
+        String sql = SqlCapture.statements.get(SqlCapture.statements.size() - 1);
+        // H2 plans statements with unbound parameters, so the captured SQL can be explained as-is.
+        return jdbcTemplate.query(con -> con.prepareStatement("EXPLAIN " + sql),
+                rs -> rs.next() ? rs.getString(1) : "");
+    }
+
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> statements = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.trim().toLowerCase().startsWith("select")) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.taskmanagement.search;
+
+import com.taskmanagement.events.TaskEvent;
+import com.taskmanagement.model.Task;
+import com.taskmanagement.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TaskSearchIndexTest {
+
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new TaskSearchIndex("");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void matchesWordsIgnoringCase() {
+        index.index(task(1L, "Fix LOGIN page", null));
+        index.index(task(2L, "Write docs", "Covers the login flow"));
+        index.index(task(3L, "Unrelated", "Nothing here"));
+
+        assertEquals(List.of(1L, 2L), index.search("Login", 0, 10).ids());
+    }
+
+    @Test
+    void matchesPrefixes() {
+        index.index(task(1L, "Deploy backend", null));
+        index.index(task(2L, "Dependency upgrade", null));
+
+        assertEquals(2, index.search("dep", 0, 10).ids().size());
+        assertEquals(List.of(1L), index.search("deploy", 0, 10).ids());
+    }
+
+    @Test
+    void requiresEveryWord() {
+        index.index(task(1L, "Release notes", "Draft for the next release"));
+        index.index(task(2L, "Release checklist", null));
+
+        assertEquals(List.of(1L), index.search("release draft", 0, 10).ids());
+    }
+
+    @Test
+    void ranksTitleAndWholeWordMatchesFirst() {
+        index.index(task(1L, "Groceries", "Buy invoices folder"));
+        index.index(task(2L, "Invoice customers", null));
+        index.index(task(3L, "Invoices overdue", null));
+
+        assertEquals(List.of(2L, 3L, 1L), index.search("invoice", 0, 10).ids());
+    }
+
+    @Test
+    void updatesAndRemovesDocuments() {
+        index.index(task(1L, "Old title", null));
+        index.index(task(1L, "New title", null));
+
+        assertTrue(index.search("old", 0, 10).ids().isEmpty());
+        assertEquals(List.of(1L), index.search("new", 0, 10).ids());
+
+        index.remove(1L);
+
+        assertTrue(index.search("new", 0, 10).ids().isEmpty());
+    }
+
+    @Test
+    void pagesThroughResults() {
+        for (long id = 1; id <= 5; id++) {
+            index.index(task(id, "Task number " + id, null));
+        }
+
+        TaskSearchHits first = index.search("task", 0, 2);
+        TaskSearchHits last = index.search("task", 4, 2);
+
+        assertEquals(2, first.ids().size());
+        assertTrue(first.hasMore());
+        assertEquals(1, last.ids().size());
+        assertFalse(last.hasMore());
+    }
+
+    @Test
+    void rejectsQueryWithoutWords() {
+        assertThrows(IllegalArgumentException.class, () -> index.search("  !? ", 0, 10));
+    }
+
+    @Test
+    void reusesOnDiskIndexAfterCleanShutdown(@TempDir Path dir) throws IOException {
+        TaskRepository repository = repository(1, List.of(task(1L, "Persisted task", null)));
+        TaskSearchIndex onDisk = onDisk(dir, repository);
+        onDisk.rebuild();
+        onDisk.close();
+
+        TaskSearchIndex reopened = onDisk(dir, repository);
+        reopened.rebuild();
+        try {
+            verify(repository, times(1)).streamAllByOrderByIdAsc();
+            assertEquals(List.of(1L), reopened.search("persisted", 0, 10).ids());
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    void rebuildsOnDiskIndexWhenDatabaseChanged(@TempDir Path dir) throws IOException {
+        TaskSearchIndex onDisk = onDisk(dir, repository(1, List.of(task(1L, "Persisted task", null))));
+        onDisk.rebuild();
+        onDisk.close();
+
+        TaskRepository changed = repository(1, List.of(task(2L, "Replacement task", null)));
+        when(changed.findLastUpdatedAt()).thenReturn(LocalDateTime.of(2030, 1, 1, 0, 0));
+        TaskSearchIndex reopened = onDisk(dir, changed);
+        reopened.rebuild();
+        try {
+            assertTrue(reopened.search("persisted", 0, 10).ids().isEmpty());
+            assertEquals(List.of(2L), reopened.search("replacement", 0, 10).ids());
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    void rebuildKeepsEventsThatArriveWhileLoading() {
+        Task renamed = task(1L, "Renamed task", null);
+        TaskRepository repository = mock(TaskRepository.class);
+        // Both events commit after the stream has read its snapshot of the rows.
+        when(repository.streamAllByOrderByIdAsc()).thenAnswer(invocation -> Stream.of(1L, 2L).map(id -> {
+            if (id == 1L) {
+                index.onTaskEvent(TaskEvent.updated(renamed));
+                index.onTaskEvent(TaskEvent.deleted(2L));
+            }
+            return task(id, "Original task", null);
+        }));
+        ReflectionTestUtils.setField(index, "taskRepository", repository);
+        ReflectionTestUtils.setField(index, "entityManager", mock(EntityManager.class));
+
+        index.rebuild();
+
+        assertTrue(index.search("original", 0, 10).ids().isEmpty());
+        assertEquals(List.of(1L), index.search("renamed", 0, 10).ids());
+
+        index.onTaskEvent(TaskEvent.updated(task(2L, "Recreated after load", null)));
+        assertEquals(List.of(2L), index.search("recreated", 0, 10).ids());
+    }
+
+    private static TaskSearchIndex onDisk(Path dir, TaskRepository repository) throws IOException {
+        TaskSearchIndex onDisk = new TaskSearchIndex(dir.toString());
+        ReflectionTestUtils.setField(onDisk, "taskRepository", repository);
+        ReflectionTestUtils.setField(onDisk, "entityManager", mock(EntityManager.class));
+        return onDisk;
+    }
+
+    private static TaskRepository repository(long count, List<Task> tasks) {
+        TaskRepository repository = mock(TaskRepository.class);
+        when(repository.count()).thenReturn(count);
+        when(repository.streamAllByOrderByIdAsc()).thenAnswer(invocation -> tasks.stream());
+        return repository;
+    }
+
+    private static Task task(Long id, String title, String description) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle(title);
+        task.setDescription(description);
+        return task;
+    }
+}
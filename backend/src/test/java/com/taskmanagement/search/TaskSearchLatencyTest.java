@@ -0,0 +1,90 @@
+package com.taskmanagement.search;
+
+import com.taskmanagement.model.Task;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures search latency over a million synthetic tasks. Timing-based, so it
+ * only runs on demand:
+ * {@code mvn test -Dtest=TaskSearchLatencyTest -Dperf=true}
+ */
+@EnabledIfSystemProperty(named = "perf", matches = "true")
+class TaskSearchLatencyTest {
+
+    private static final int TASKS = 1_000_000;
+    private static final int QUERIES = 2_000;
+    private static final String[] WORDS = vocabulary(5_000);
+
+    @Test
+    void p95StaysUnderTwentyMillis() throws Exception {
+        Random random = new Random(42);
+        TaskSearchIndex index = new TaskSearchIndex("");
+        try {
+            for (long id = 1; id <= TASKS; id++) {
+                Task task = new Task();
+                task.setId(id);
+                task.setTitle(sentence(random, 4));
+                task.setDescription(sentence(random, 20));
+                index.index(task);
+            }
+
+            for (int i = 0; i < QUERIES; i++) {
+                index.search(query(random), 0, 20);
+            }
+            long[] nanos = new long[QUERIES];
+            for (int i = 0; i < QUERIES; i++) {
+                String query = query(random);
+                long start = System.nanoTime();
+                index.search(query, 0, 20);
+                nanos[i] = System.nanoTime() - start;
+            }
+
+            Arrays.sort(nanos);
+            double p50 = nanos[QUERIES / 2] / 1e6;
+            double p95 = nanos[QUERIES * 95 / 100] / 1e6;
+            System.out.printf("search over %,d tasks: p50 %.2f ms, p95 %.2f ms%n", TASKS, p50, p95);
+            assertTrue(p95 < 20, "p95 was " + p95 + " ms");
+        } finally {
+            index.close();
+        }
+    }
+
+    /** One or two words, the last sometimes cut short as a prefix. */
+    private static String query(Random random) {
+        String first = WORDS[random.nextInt(WORDS.length)];
+        String last = WORDS[random.nextInt(WORDS.length)];
+        if (random.nextBoolean()) {
+            last = last.substring(0, 4);
+        }
+        return random.nextBoolean() ? last : first + " " + last;
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            // Skewed towards the front of the vocabulary, like real text.
+            int rank = (int) (WORDS.length * Math.pow(random.nextDouble(), 3));
+            sentence.append(i == 0 ? "" : " ").append(WORDS[rank]);
+        }
+        return sentence.toString();
+    }
+
+    private static String[] vocabulary(int size) {
+        Random random = new Random(7);
+        String[] words = new String[size];
+        for (int i = 0; i < size; i++) {
+            char[] word = new char[5 + random.nextInt(6)];
+            for (int c = 0; c < word.length; c++) {
+                word[c] = (char) ('a' + random.nextInt(26));
+            }
+            words[i] = new String(word);
+        }
+        return words;
+    }
+}
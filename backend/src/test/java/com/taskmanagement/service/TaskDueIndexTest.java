@@ -0,0 +1,88 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.events.TaskEvent;
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskStatus;
+import com.taskmanagement.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskDueIndexTest {
+
+    private static final LocalDateTime DUE = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final TaskDueIndex index = new TaskDueIndex(new SimpleMeterRegistry(), Duration.ofMinutes(1));
+
+    TaskDueIndexTest() {
+        ReflectionTestUtils.setField(index, "taskRepository", taskRepository);
+        ReflectionTestUtils.setField(index, "entityManager", mock(EntityManager.class));
+    }
+
+    @Test
+    void queriesFailUntilLoaded() {
+        assertThrows(TaskDueIndexLoadingException.class, () -> index.find(null, null, 10));
+
+        load();
+        assertTrue(index.find(null, null, 10).isEmpty());
+    }
+
+    @Test
+    void lateUpdateDoesNotBringBackADeletedTask() {
+        load();
+        index.onTaskEvent(TaskEvent.created(task(0L, TaskStatus.TODO)));
+
+        index.onTaskEvent(TaskEvent.deleted(1L));
+        index.onTaskEvent(TaskEvent.updated(task(1L, TaskStatus.IN_PROGRESS)));
+
+        assertTrue(index.find(null, null, 10).isEmpty());
+    }
+
+    @Test
+    void lateUpdateDoesNotReopenACompletedTask() {
+        load();
+        index.onTaskEvent(TaskEvent.created(task(0L, TaskStatus.TODO)));
+
+        index.onTaskEvent(TaskEvent.updated(task(2L, TaskStatus.DONE)));
+        index.onTaskEvent(TaskEvent.updated(task(1L, TaskStatus.IN_PROGRESS)));
+        assertTrue(index.find(null, null, 10).isEmpty());
+
+        index.onTaskEvent(TaskEvent.updated(task(3L, TaskStatus.TODO)));
+        List<Task> due = index.find(null, null, 10);
+        assertEquals(1, due.size());
+        assertEquals(3L, due.get(0).getVersion());
+    }
+
+    @Test
+    void lateCompletionDoesNotRemoveANewerVersion() {
+        load();
+        index.onTaskEvent(TaskEvent.updated(task(3L, TaskStatus.TODO)));
+
+        index.onTaskEvent(TaskEvent.updated(task(2L, TaskStatus.DONE)));
+
+        assertEquals(1, index.find(null, null, 10).size());
+    }
+
+    private void load() {
+        when(taskRepository.streamOpenWithDueDate()).thenReturn(Stream.empty());
+        index.rebuild();
+    }
+
+    private static Task task(Long version, TaskStatus status) {
+        Task task = new Task("Task", "Description", status);
+        task.setId(1L);
+        task.setVersion(version);
+        task.setDueDate(DUE);
+        return task;
+    }
+}
@@ -0,0 +1,32 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskIdempotencyStoreTest {
+
+    @Test
+    void requestHashIsTheSameInEveryJvm() {
+        // Recorded in task_idempotency_keys, so it must not depend on identity hashes.
+        assertEquals(-827444413, TaskIdempotencyStore.requestHash(new Task("Buy milk", null, TaskStatus.TODO)));
+
+        Task task = new Task("Buy milk", "2 litres", TaskStatus.IN_PROGRESS);
+        task.setDueDate(LocalDateTime.of(2024, 1, 15, 10, 30));
+        assertEquals(297543601, TaskIdempotencyStore.requestHash(task));
+    }
+
+    @Test
+    void requestHashTellsFieldsApart() {
+        assertNotEquals(TaskIdempotencyStore.requestHash(new Task("ab", "c", TaskStatus.TODO)),
+                TaskIdempotencyStore.requestHash(new Task("a", "bc", TaskStatus.TODO)));
+        assertNotEquals(TaskIdempotencyStore.requestHash(new Task("Buy milk", null, TaskStatus.TODO)),
+                TaskIdempotencyStore.requestHash(new Task("Buy milk", "", TaskStatus.TODO)));
+        assertNotEquals(TaskIdempotencyStore.requestHash(new Task("Buy milk", null, TaskStatus.TODO)),
+                TaskIdempotencyStore.requestHash(new Task("Buy milk", null, TaskStatus.DONE)));
+    }
+}
@@ -0,0 +1,131 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.events.TaskEvent;
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskReadCoalescerTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TaskReadCoalescer coalescer = new TaskReadCoalescer(meterRegistry);
+    private final ExecutorService readers = Executors.newCachedThreadPool();
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        task = new Task("Task", "Description", TaskStatus.TODO);
+        task.setId(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        readers.shutdownNow();
+    }
+
+    @Test
+    void concurrentReadsShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Optional<Task>> first = startLoad(1L, blockingLoad(loads, release));
+        Future<Optional<Task>> second = readers.submit(() -> coalescer.getTask(1L, blockingLoad(loads, release)));
+        awaitCount("tasks.reads.coalesced", 1);
+
+        release.countDown();
+        assertSame(task, first.get(5, TimeUnit.SECONDS).orElseThrow());
+        assertSame(task, second.get(5, TimeUnit.SECONDS).orElseThrow());
+        assertEquals(1, loads.get());
+        assertEquals(1.0, count("tasks.reads.loads"));
+    }
+
+    @Test
+    void loadFailureReachesEveryCaller() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<Optional<Task>> failing = () -> {
+            await(release);
+            throw new IllegalStateException("Database unavailable");
+        };
+        Future<Optional<Task>> first = startLoad(1L, failing);
+        Future<Optional<Task>> second = readers.submit(() -> coalescer.getTask(1L, Optional::empty));
+        awaitCount("tasks.reads.coalesced", 1);
+
+        release.countDown();
+        for (Future<Optional<Task>> read : List.of(first, second)) {
+            Exception e = assertThrows(Exception.class, () -> read.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+        }
+        // Nothing is remembered, so the next read loads again.
+        assertEquals(Optional.of(task), coalescer.getTask(1L, () -> Optional.of(task)));
+    }
+
+    @Test
+    void readAfterWriteDoesNotJoinEarlierLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Optional<Task>> before = startLoad(1L, blockingLoad(loads, release));
+
+        coalescer.onTaskEvent(TaskEvent.deleted(1L));
+        assertEquals(Optional.empty(), coalescer.getTask(1L, Optional::empty));
+
+        release.countDown();
+        assertSame(task, before.get(5, TimeUnit.SECONDS).orElseThrow());
+        assertEquals(0.0, count("tasks.reads.coalesced"));
+        assertEquals(2.0, count("tasks.reads.loads"));
+    }
+
+    /** Starts a read on another thread and returns once its load is running. */
+    private Future<Optional<Task>> startLoad(Long id, Supplier<Optional<Task>> load) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        Future<Optional<Task>> read = readers.submit(() -> coalescer.getTask(id, () -> {
+            started.countDown();
+            return load.get();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return read;
+    }
+
+    private Supplier<Optional<Task>> blockingLoad(AtomicInteger loads, CountDownLatch release) {
+        return () -> {
+            loads.incrementAndGet();
+            await(release);
+            return Optional.of(task);
+        };
+    }
+
+    private void awaitCount(String name, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count(name) < expected) {
+            assertTrue(System.nanoTime() < deadline, name + " never reached " + expected);
+            Thread.sleep(5);
+        }
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).tag("operation", "get").counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
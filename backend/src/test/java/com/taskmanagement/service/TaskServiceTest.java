@@ -1,21 +1,38 @@
 package com.taskmanagement.service;
 
 import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskStatus;
+import com.taskmanagement.model.TaskField;
+import com.taskmanagement.model.TaskSort;
+import com.taskmanagement.model.TaskTombstone;
+import com.taskmanagement.repository.TaskCursor;
+import com.taskmanagement.repository.TaskProjection;
 import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TaskStatusView;
+import com.taskmanagement.repository.TaskTombstoneRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -25,6 +42,24 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TaskStatistics taskStatistics;
+
+    @Spy
+    private TaskReadCoalescer taskReadCoalescer = new TaskReadCoalescer(new SimpleMeterRegistry());
+
+    @Spy
+    private TaskWriteTracker taskWriteTracker = new TaskWriteTracker();
+
     @InjectMocks
     private TaskService taskService;
 
@@ -37,15 +72,13 @@ class TaskServiceTest {
         task1.setId(1L);
         task1.setTitle("Test Task 1");
         task1.setDescription("Description 1");
-        task1.setCompleted(false);
-        task1.setStatus("TODO");
+        task1.setStatus(TaskStatus.TODO);
 
         task2 = new Task();
         task2.setId(2L);
         task2.setTitle("Test Task 2");
         task2.setDescription("Description 2");
-        task2.setCompleted(true);
-        task2.setStatus("DONE");
+        task2.setStatus(TaskStatus.DONE);
     }
 
     @Test
@@ -71,6 +104,61 @@ class TaskServiceTest {
         verify(taskRepository, times(1)).findAll();
     }
 
+    @Test
+    void testGetTasksReturnsCursorWhenMoreRowsExist() {
+        task1.setUpdatedAt(LocalDateTime.now());
+        task2.setUpdatedAt(LocalDateTime.now());
+        when(taskRepository.findPage(null, null, TaskSort.ID, null, 2, TaskField.SUMMARY))
+                .thenReturn(Arrays.asList(summary(task1), summary(task2)));
+
+        TaskPage page = taskService.getTasks(null, null, TaskSort.ID, TaskField.SUMMARY, null, 1);
+
+        assertEquals(1, page.items().size());
+        assertNotNull(page.nextCursor());
+        assertEquals(1L, TaskCursor.decode(page.nextCursor(), TaskSort.ID).id());
+    }
+
+    @Test
+    void testGetTasksLastPageHasNoCursor() {
+        when(taskRepository.findPage(eq(TaskStatus.DONE), eq(null), eq(TaskSort.UPDATED), eq(null), anyInt(),
+                eq(TaskField.SUMMARY)))
+                .thenReturn(List.of(summary(task2)));
+
+        TaskPage page = taskService.getTasks(TaskStatus.DONE, null, TaskSort.UPDATED, TaskField.SUMMARY, null, null);
+
+        assertEquals(1, page.items().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void testGetTasksCapsLimit() {
+        when(taskRepository.findPage(null, null, TaskSort.ID, null, 1001, TaskField.SUMMARY)).thenReturn(List.of());
+
+        taskService.getTasks(null, null, TaskSort.ID, TaskField.SUMMARY, null, 50_000);
+
+        verify(taskRepository, times(1)).findPage(null, null, TaskSort.ID, null, 1001, TaskField.SUMMARY);
+    }
+
+    @Test
+    void testGetTasksRejectsCursorFromOtherSort() {
+        String cursor = TaskCursor.after(TaskSort.ID, task1).encode();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.getTasks(null, null, TaskSort.DUE, TaskField.SUMMARY, cursor, 10));
+    }
+
+    @Test
+    void testExportTasksDetachesEachRow() {
+        when(taskRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(task1, task2));
+        List<Task> exported = new ArrayList<>();
+
+        taskService.exportTasks(exported::add);
+
+        assertEquals(Arrays.asList(task1, task2), exported);
+        verify(entityManager).detach(task1);
+        verify(entityManager).detach(task2);
+    }
+
     @Test
     void testGetTaskById() {
         when(taskRepository.findById(1L)).thenReturn(Optional.of(task1));
@@ -98,8 +186,7 @@ class TaskServiceTest {
         Task newTask = new Task();
         newTask.setTitle("New Task");
         newTask.setDescription("New Description");
-        newTask.setStatus("TODO");
-        newTask.setCompleted(false);
+        newTask.setStatus(TaskStatus.TODO);
 
         when(taskRepository.save(any(Task.class))).thenReturn(newTask);
 
@@ -108,8 +195,8 @@ class TaskServiceTest {
         assertNotNull(result);
         assertEquals("New Task", result.getTitle());
         assertEquals("New Description", result.getDescription());
-        assertEquals("TODO", result.getStatus());
-        assertFalse(result.getCompleted());
+        assertEquals(TaskStatus.TODO, result.getStatus());
+        assertFalse(result.isCompleted());
         verify(taskRepository, times(1)).save(any(Task.class));
     }
 
@@ -118,37 +205,40 @@ class TaskServiceTest {
         Task taskDetails = new Task();
         taskDetails.setTitle("Updated Task");
         taskDetails.setDescription("Updated Description");
-        taskDetails.setCompleted(true);
-        taskDetails.setStatus("DONE");
+        taskDetails.setStatus(TaskStatus.DONE);
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task1));
-        when(taskRepository.save(any(Task.class))).thenReturn(taskDetails);
+        TaskStatusView before = new TaskStatusView(1L, TaskStatus.TODO, null);
+        when(taskRepository.updateFieldsReturningPrevious(1L, taskDetails, null)).thenReturn(Optional.of(before));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(taskDetails));
 
         Task result = taskService.updateTask(1L, taskDetails);
 
         assertNotNull(result);
         assertEquals("Updated Task", result.getTitle());
         assertEquals("Updated Description", result.getDescription());
-        assertTrue(result.getCompleted());
-        assertEquals("DONE", result.getStatus());
-        verify(taskRepository, times(1)).findById(1L);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        assertTrue(result.isCompleted());
+        assertEquals(TaskStatus.DONE, result.getStatus());
+        verify(taskRepository, times(1)).updateFieldsReturningPrevious(1L, taskDetails, null);
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskStatistics, times(1)).record(eq(before), any(TaskStatusView.class));
     }
 
     @Test
     void testUpdateTaskPartial() {
         Task taskDetails = new Task();
         taskDetails.setTitle("Updated Title Only");
+        task1.setTitle("Updated Title Only");
 
+        when(taskRepository.updateFieldsReturningPrevious(1L, taskDetails, null))
+                .thenReturn(Optional.of(TaskStatusView.of(task1)));
         when(taskRepository.findById(1L)).thenReturn(Optional.of(task1));
-        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Task result = taskService.updateTask(1L, taskDetails);
 
         assertEquals("Updated Title Only", result.getTitle());
         assertEquals("Description 1", result.getDescription());
+        verify(taskRepository, times(1)).updateFieldsReturningPrevious(1L, taskDetails, null);
         verify(taskRepository, times(1)).findById(1L);
-        verify(taskRepository, times(1)).save(any(Task.class));
     }
 
     @Test
@@ -156,29 +246,62 @@ class TaskServiceTest {
         Task taskDetails = new Task();
         taskDetails.setTitle("Updated");
 
-        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
+        when(taskRepository.updateFieldsReturningPrevious(999L, taskDetails, null)).thenReturn(Optional.empty());
 
         assertThrows(RuntimeException.class, () -> taskService.updateTask(999L, taskDetails));
-        verify(taskRepository, times(1)).findById(999L);
+        verify(taskRepository, never()).findById(999L);
+    }
+
+    @Test
+    void testUpdateTaskBlankTitleNeverWrites() {
+        Task taskDetails = new Task();
+        taskDetails.setTitle("  ");
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.updateTask(1L, taskDetails));
+        verify(taskRepository, never()).updateFieldsReturningPrevious(any(), any(), any());
+    }
+
+    @Test
+    void testUpdateTaskVersionConflict() {
+        Task taskDetails = new Task();
+        taskDetails.setTitle("Stale write");
+
+        when(taskRepository.updateFieldsReturningPrevious(1L, taskDetails, 3L)).thenReturn(Optional.empty());
+        when(taskRepository.existsById(1L)).thenReturn(true);
+
+        assertThrows(TaskVersionConflictException.class, () -> taskService.updateTask(1L, taskDetails, 3L));
+    }
+
+    @Test
+    void testDeleteTaskVersionConflict() {
+        when(taskRepository.deleteReturningPrevious(1L, 3L)).thenReturn(Optional.empty());
+        when(taskRepository.existsById(1L)).thenReturn(true);
+
+        assertThrows(TaskVersionConflictException.class, () -> taskService.deleteTask(1L, 3L));
+        verify(taskTombstoneRepository, never()).save(any());
     }
 
     @Test
     void testDeleteTaskSuccess() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task1));
-        doNothing().when(taskRepository).delete(any(Task.class));
+        TaskStatusView before = new TaskStatusView(1L, TaskStatus.TODO, null);
+        when(taskRepository.deleteReturningPrevious(1L, null)).thenReturn(Optional.of(before));
 
         taskService.deleteTask(1L);
 
-        verify(taskRepository, times(1)).findById(1L);
-        verify(taskRepository, times(1)).delete(any(Task.class));
+        verify(taskRepository, times(1)).deleteReturningPrevious(1L, null);
+        verify(taskRepository, never()).findById(any());
+        verify(taskTombstoneRepository, times(1)).save(any(TaskTombstone.class));
+        verify(taskStatistics, times(1)).record(before, null);
     }
 
     @Test
     void testDeleteTaskNotFound() {
-        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
+        when(taskRepository.deleteReturningPrevious(999L, null)).thenReturn(Optional.empty());
 
         assertThrows(RuntimeException.class, () -> taskService.deleteTask(999L));
-        verify(taskRepository, times(1)).findById(999L);
+        verify(taskRepository, times(1)).deleteReturningPrevious(999L, null);
+        verify(taskTombstoneRepository, never()).save(any());
+        verifyNoInteractions(taskStatistics);
     }
 
     @Test
@@ -194,4 +317,15 @@ class TaskServiceTest {
 
         verify(taskRepository, times(2)).save(any(Task.class));
     }
+
+    private static TaskProjection summary(Task task) {
+        Map<TaskField, Object> values = new EnumMap<>(TaskField.class);
+        values.put(TaskField.ID, task.getId());
+        values.put(TaskField.VERSION, task.getVersion());
+        values.put(TaskField.TITLE, task.getTitle());
+        values.put(TaskField.STATUS, task.getStatus());
+        values.put(TaskField.DUE_DATE, task.getDueDate());
+        values.put(TaskField.UPDATED_AT, task.getUpdatedAt());
+        return new TaskProjection(TaskField.SUMMARY, values);
+    }
 }
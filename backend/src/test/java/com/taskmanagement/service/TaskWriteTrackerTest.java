@@ -0,0 +1,60 @@
+package com.taskmanagement.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskWriteTrackerTest {
+
+    private final TaskWriteTracker tracker = new TaskWriteTracker();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(tracker);
+    }
+
+    @Test
+    void horizonStaysBeforeAnUnfinishedWrite() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        LocalDateTime started = tracker.begin();
+        assertSame(started, tracker.begin(), "one registration per transaction");
+
+        Thread.sleep(5);
+        assertTrue(tracker.horizon().isBefore(started));
+
+        complete();
+        assertFalse(tracker.horizon().isBefore(started));
+    }
+
+    @Test
+    void horizonIsBeforeAnyWriteThatStartsLater() {
+        LocalDateTime horizon = tracker.horizon();
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(horizon.isBefore(tracker.begin()));
+        complete();
+    }
+
+    @Test
+    void outsideATransactionNothingIsTracked() throws Exception {
+        LocalDateTime stamp = tracker.begin();
+
+        Thread.sleep(5);
+        assertTrue(tracker.horizon().isAfter(stamp));
+    }
+
+    private static void complete() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+}
@@ -0,0 +1,25 @@
+package com.taskmanagement.support;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+
+/**
+ * MockMvc for the write endpoints, which return a {@code CompletableFuture}:
+ * waits for the result and dispatches it, so expectations see the final
+ * response. Requests rejected before reaching the handler are returned as-is.
+ */
+public final class AsyncDispatch {
+
+    private AsyncDispatch() {
+    }
+
+    public static ResultActions performAndDispatch(MockMvc mockMvc, RequestBuilder request) throws Exception {
+        ResultActions actions = mockMvc.perform(request);
+        MvcResult started = actions.andReturn();
+        return started.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(started)) : actions;
+    }
+}
@@ -0,0 +1,19 @@
+package com.taskmanagement.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables {@link QueryCountAssertions} in a {@code @SpringBootTest} with MockMvc.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Import(QueryCountConfiguration.class)
+@ExtendWith(QueryCountExtension.class)
+public @interface CountQueries {
+}
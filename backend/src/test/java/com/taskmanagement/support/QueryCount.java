@@ -0,0 +1,31 @@
+package com.taskmanagement.support;
+
+/**
+ * Statement counts by kind. Sequence fetches are not counted: with pooled id
+ * allocation they happen once every few inserts, depending on what ran before.
+ */
+public record QueryCount(int select, int insert, int update, int delete) {
+
+    public static final QueryCount NONE = new QueryCount(0, 0, 0, 0);
+
+    public QueryCount select(int count) {
+        return new QueryCount(count, insert, update, delete);
+    }
+
+    public QueryCount insert(int count) {
+        return new QueryCount(select, count, update, delete);
+    }
+
+    public QueryCount update(int count) {
+        return new QueryCount(select, insert, count, delete);
+    }
+
+    public QueryCount delete(int count) {
+        return new QueryCount(select, insert, update, count);
+    }
+
+    @Override
+    public String toString() {
+        return "select=" + select + ", insert=" + insert + ", update=" + update + ", delete=" + delete;
+    }
+}
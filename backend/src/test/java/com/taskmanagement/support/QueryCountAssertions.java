@@ -0,0 +1,45 @@
+package com.taskmanagement.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Assertions on the statements run by the most recent MockMvc request in a
+ * {@link CountQueries} test:
+ *
+ * <pre>
+ * mockMvc.perform(put("/api/tasks/1")...);
+ * assertQueryCount(select(1).update(1));
+ * </pre>
+ *
+ * Kinds that are not mentioned are expected to be zero, so any added
+ * statement fails the test.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static void assertQueryCount(QueryCount expected) {
+        assertEquals(expected, QueryCounter.current(), "Statements run by the last request");
+    }
+
+    public static void assertNoQueries() {
+        assertQueryCount(QueryCount.NONE);
+    }
+
+    public static QueryCount select(int count) {
+        return QueryCount.NONE.select(count);
+    }
+
+    public static QueryCount insert(int count) {
+        return QueryCount.NONE.insert(count);
+    }
+
+    public static QueryCount update(int count) {
+        return QueryCount.NONE.update(count);
+    }
+
+    public static QueryCount delete(int count) {
+        return QueryCount.NONE.delete(count);
+    }
+}
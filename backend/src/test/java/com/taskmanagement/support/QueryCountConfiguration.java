@@ -0,0 +1,45 @@
+package com.taskmanagement.support;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+
+/**
+ * Hooks {@link QueryCounter} into the application's proxied DataSource and
+ * resets the count at the start of every MockMvc request. Writes run on the
+ * async pool; the task decorator makes their statements count towards the
+ * request that submitted them.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+class QueryCountConfiguration {
+
+    @Bean
+    TaskDecorator queryCountTaskDecorator() {
+        return QueryCounter::propagate;
+    }
+
+    @Bean
+    OncePerRequestFilter queryCountResetFilter(DataSource dataSource) {
+        if (!(dataSource instanceof ProxyDataSource proxy)) {
+            throw new IllegalStateException("Query counting needs the datasource-proxy DataSource from MetricsConfig");
+        }
+        proxy.getProxyConfig().getQueryListener().addListener(new QueryCounter());
+        return new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                            FilterChain chain) throws ServletException, IOException {
+                QueryCounter.reset();
+                chain.doFilter(request, response);
+            }
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.taskmanagement.support;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Keeps counts from leaking between tests that share a thread.
+ */
+class QueryCountExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        QueryCounter.reset();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        QueryCounter.reset();
+    }
+}
@@ -0,0 +1,76 @@
+package com.taskmanagement.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Counts the statements each thread executes, plus those of work it hands to
+ * another thread through {@link #propagate(Runnable)}. A JDBC batch counts
+ * once, as it is one round trip.
+ */
+public class QueryCounter implements QueryExecutionListener {
+
+    private static final ThreadLocal<AtomicReference<QueryCount>> COUNT =
+            ThreadLocal.withInitial(() -> new AtomicReference<>(QueryCount.NONE));
+
+    /** Starts a new count; work still running for the previous one no longer adds to it. */
+    public static void reset() {
+        COUNT.remove();
+    }
+
+    public static QueryCount current() {
+        return COUNT.get().get();
+    }
+
+    /** Wraps {@code task} so that its statements count towards the calling thread. */
+    public static Runnable propagate(Runnable task) {
+        AtomicReference<QueryCount> count = COUNT.get();
+        return () -> {
+            AtomicReference<QueryCount> own = COUNT.get();
+            COUNT.set(count);
+            try {
+                task.run();
+            } finally {
+                COUNT.set(own);
+            }
+        };
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (QueryInfo queryInfo : queryInfoList) {
+            String sql = queryInfo.getQuery().trim().toLowerCase(Locale.ROOT);
+            if (!sql.contains("next value for")) {
+                COUNT.get().updateAndGet(count -> add(count, sql));
+            }
+        }
+    }
+
+    private static QueryCount add(QueryCount count, String sql) {
+        // A data change delta table (SELECT ... FROM OLD TABLE (UPDATE ...)) is
+        // one round trip for the write it wraps, so it counts as that write.
+        int delta = sql.indexOf(" table (");
+        if (sql.startsWith("select") && delta >= 0) {
+            sql = sql.substring(delta + " table (".length()).trim();
+        }
+        if (sql.startsWith("select")) {
+            return count.select(count.select() + 1);
+        } else if (sql.startsWith("insert")) {
+            return count.insert(count.insert() + 1);
+        } else if (sql.startsWith("update")) {
+            return count.update(count.update() + 1);
+        } else if (sql.startsWith("delete")) {
+            return count.delete(count.delete() + 1);
+        }
+        return count;
+    }
+}
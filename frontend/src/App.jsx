@@ -6,18 +6,54 @@ import TaskList from './components/TaskList';
 
 function App() {
   const [tasks, setTasks] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [stats, setStats] = useState(null);
+  const [filter, setFilter] = useState('all');
+  const [sortBy, setSortBy] = useState('date');
   const [loading, setLoading] = useState(false);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [error, setError] = useState(null);
 
   const API_BASE_URL = 'http://localhost:8080/api/tasks';
+  // The list endpoint returns a summary unless asked for more.
+  const LIST_FIELDS = 'id,title,description,completed,status,dueDate,updatedAt';
+  // Filtering and sorting happen on the server, so they apply to every page
+  // and not just the ones loaded so far.
+  const FILTER_PARAMS = {
+    all: {},
+    active: { completed: false },
+    completed: { status: 'DONE' },
+  };
+  const SORT_PARAMS = { date: 'updated', status: 'status', due: 'due' };
+
+  // Fetch one page of tasks; the server puts the cursor for the next one in X-Next-Cursor
+  const fetchPage = (cursor) => axios.get(API_BASE_URL, {
+    params: {
+      fields: LIST_FIELDS,
+      sort: SORT_PARAMS[sortBy],
+      ...FILTER_PARAMS[filter],
+      ...(cursor ? { cursor } : {}),
+    },
+  });
 
-  // Fetch all tasks
+  // Counts come from the server since the list only holds the pages loaded so far
+  const fetchStats = async () => {
+    try {
+      const response = await axios.get(`${API_BASE_URL}/stats`);
+      setStats(response.data);
+    } catch (err) {
+      setStats(null);
+    }
+  };
+
+  // Fetch the first page of tasks
   const fetchTasks = async () => {
     setLoading(true);
     setError(null);
     try {
-      const response = await axios.get(API_BASE_URL);
+      const response = await fetchPage(null);
       setTasks(response.data);
+      setNextCursor(response.headers['x-next-cursor'] || null);
     } catch (err) {
       setError('Failed to fetch tasks');
       console.error(err);
@@ -26,9 +62,29 @@ function App() {
     }
   };
 
-  // Fetch tasks on component mount
+  // Fetch the page after the last one loaded
+  const handleLoadMore = async () => {
+    setLoadingMore(true);
+    try {
+      const response = await fetchPage(nextCursor);
+      setTasks(current => [...current, ...response.data]);
+      setNextCursor(response.headers['x-next-cursor'] || null);
+      setError(null);
+    } catch (err) {
+      setError('Failed to fetch tasks');
+      console.error(err);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
+  // Fetch tasks on mount and whenever the filter or sort changes
   useEffect(() => {
     fetchTasks();
+  }, [filter, sortBy]);
+
+  useEffect(() => {
+    fetchStats();
   }, []);
 
   // Add new task
@@ -37,6 +93,7 @@ function App() {
       const response = await axios.post(API_BASE_URL, taskData);
       setTasks([...tasks, response.data]);
       setError(null);
+      fetchStats();
     } catch (err) {
       setError('Failed to create task');
       console.error(err);
@@ -49,6 +106,7 @@ function App() {
       const response = await axios.put(`${API_BASE_URL}/${id}`, taskData);
       setTasks(tasks.map(task => (task.id === id ? response.data : task)));
       setError(null);
+      fetchStats();
     } catch (err) {
       setError('Failed to update task');
       console.error(err);
@@ -61,6 +119,7 @@ function App() {
       await axios.delete(`${API_BASE_URL}/${id}`);
       setTasks(tasks.filter(task => task.id !== id));
       setError(null);
+      fetchStats();
     } catch (err) {
       setError('Failed to delete task');
       console.error(err);
@@ -93,6 +152,14 @@ function App() {
         ) : (
           <TaskList 
             tasks={tasks}
+            stats={stats}
+            filter={filter}
+            sortBy={sortBy}
+            onFilterChange={setFilter}
+            onSortChange={setSortBy}
+            hasMore={nextCursor !== null}
+            loadingMore={loadingMore}
+            onLoadMore={handleLoadMore}
             onToggleTask={handleToggleTask}
             onDeleteTask={handleDeleteTask}
             onUpdateTask={handleUpdateTask}
@@ -1,49 +1,36 @@
-import React, { useState, useMemo } from 'react';
+import React from 'react';
 import PropTypes from 'prop-types';
 import TaskItem from './TaskItem';
 
-function TaskList({ tasks, onToggleTask, onDeleteTask, onUpdateTask }) {
-  const [filter, setFilter] = useState('all');
-  const [sortBy, setSortBy] = useState('date');
-
-  const filteredTasks = tasks.filter(task => {
-    if (filter === 'completed') return task.status === 'DONE';
-    if (filter === 'active') return task.status === 'TODO' || task.status === 'IN_PROGRESS';
-    return true;
-  });
-
-  const sortedTasks = useMemo(() => {
-    const sorted = [...filteredTasks];
-    
-    if (sortBy === 'date') {
-      sorted.sort((a, b) => new Date(b.updatedAt) - new Date(a.updatedAt));
-    } else if (sortBy === 'status') {
-      const statusOrder = { 'TODO': 0, 'IN_PROGRESS': 1, 'DONE': 2 };
-      sorted.sort((a, b) => {
-        const statusDiff = statusOrder[a.status] - statusOrder[b.status];
-        if (statusDiff !== 0) return statusDiff;
-        return new Date(b.updatedAt) - new Date(a.updatedAt);
-      });
-    } else if (sortBy === 'due') {
-      sorted.sort((a, b) => {
-        if (!a.dueDate && !b.dueDate) return 0;
-        if (!a.dueDate) return 1;
-        if (!b.dueDate) return -1;
-        return new Date(a.dueDate) - new Date(b.dueDate);
-      });
-    }
-    
-    return sorted;
-  }, [filteredTasks, sortBy]);
-
-  const completedCount = tasks.filter(t => t.status === 'DONE').length;
-  const activeCount = tasks.filter(t => t.status === 'TODO' || t.status === 'IN_PROGRESS').length;
+// Tasks arrive already filtered and sorted by the server; this only renders them.
+function TaskList({
+  tasks,
+  stats = null,
+  filter = 'all',
+  sortBy = 'date',
+  onFilterChange = () => {},
+  onSortChange = () => {},
+  hasMore = false,
+  loadingMore = false,
+  onLoadMore = () => {},
+  onToggleTask,
+  onDeleteTask,
+  onUpdateTask
+}) {
+  // Without server counts, fall back to counting the tasks loaded so far
+  const totalCount = stats ? stats.total : tasks.length;
+  const completedCount = stats
+    ? (stats.byStatus.DONE || 0)
+    : tasks.filter(t => t.status === 'DONE').length;
+  const activeCount = stats
+    ? (stats.byStatus.TODO || 0) + (stats.byStatus.IN_PROGRESS || 0)
+    : tasks.filter(t => t.status === 'TODO' || t.status === 'IN_PROGRESS').length;
 
   return (
     <div className="task-list-section">
       <div className="task-stats">
         <span className="stat">
-          <strong>{tasks.length}</strong> Total
+          <strong>{totalCount}</strong> Total
         </span>
         <span className="stat active">
           <strong>{activeCount}</strong> Active
@@ -57,19 +44,19 @@ function TaskList({ tasks, onToggleTask, onDeleteTask, onUpdateTask }) {
         <div className="filter-buttons">
           <button 
             className={`filter-btn ${filter === 'all' ? 'active' : ''}`}
-            onClick={() => setFilter('all')}
+            onClick={() => onFilterChange('all')}
           >
             All Tasks
           </button>
           <button 
             className={`filter-btn ${filter === 'active' ? 'active' : ''}`}
-            onClick={() => setFilter('active')}
+            onClick={() => onFilterChange('active')}
           >
             Active
           </button>
           <button 
             className={`filter-btn ${filter === 'completed' ? 'active' : ''}`}
-            onClick={() => setFilter('completed')}
+            onClick={() => onFilterChange('completed')}
           >
             Completed
           </button>
@@ -79,32 +66,32 @@ function TaskList({ tasks, onToggleTask, onDeleteTask, onUpdateTask }) {
           <label>Sort by:</label>
           <button 
             className={`sort-btn ${sortBy === 'date' ? 'active' : ''}`}
-            onClick={() => setSortBy('date')}
+            onClick={() => onSortChange('date')}
           >
             Date
           </button>
           <button 
             className={`sort-btn ${sortBy === 'status' ? 'active' : ''}`}
-            onClick={() => setSortBy('status')}
+            onClick={() => onSortChange('status')}
           >
             Status
           </button>
           <button 
             className={`sort-btn ${sortBy === 'due' ? 'active' : ''}`}
-            onClick={() => setSortBy('due')}
+            onClick={() => onSortChange('due')}
           >
             Due Date
           </button>
         </div>
       </div>
 
-      {sortedTasks.length === 0 ? (
+      {tasks.length === 0 ? (
         <div className="empty-state">
           <p>No tasks to display</p>
         </div>
       ) : (
         <ul className="task-list">
-          {sortedTasks.map(task => (
+          {tasks.map(task => (
             <TaskItem
               key={task.id}
               task={task}
@@ -115,6 +102,16 @@ function TaskList({ tasks, onToggleTask, onDeleteTask, onUpdateTask }) {
           ))}
         </ul>
       )}
+
+      {hasMore && (
+        <button
+          className="load-more-btn"
+          onClick={onLoadMore}
+          disabled={loadingMore}
+        >
+          {loadingMore ? 'Loading...' : 'Load more'}
+        </button>
+      )}
     </div>
   );
 }
@@ -128,6 +125,17 @@ TaskList.propTypes = {
     completed: PropTypes.bool,
     dueDate: PropTypes.string
   })).isRequired,
+  stats: PropTypes.shape({
+    total: PropTypes.number,
+    byStatus: PropTypes.objectOf(PropTypes.number)
+  }),
+  filter: PropTypes.oneOf(['all', 'active', 'completed']),
+  sortBy: PropTypes.oneOf(['date', 'status', 'due']),
+  onFilterChange: PropTypes.func,
+  onSortChange: PropTypes.func,
+  hasMore: PropTypes.bool,
+  loadingMore: PropTypes.bool,
+  onLoadMore: PropTypes.func,
   onToggleTask: PropTypes.func.isRequired,
   onDeleteTask: PropTypes.func.isRequired,
   onUpdateTask: PropTypes.func.isRequired
@@ -203,4 +203,58 @@ describe('App Component - CRUD Operations', () => {
       expect(screen.getByText(/Failed to delete task/i)).toBeDefined();
     }, { timeout: 3000 });
   });
+  it('should load the next page from X-Next-Cursor', async () => {
+    const firstPage = { id: 1, title: 'First Page Task', status: 'TODO' };
+    const secondPage = { id: 2, title: 'Second Page Task', status: 'TODO' };
+
+    mock.onGet('http://localhost:8080/api/tasks').reply((config) =>
+      config.params.cursor === 'next-1'
+        ? [200, [secondPage]]
+        : [200, [firstPage], { 'x-next-cursor': 'next-1' }]
+    );
+
+    const user = userEvent.setup();
+    render(<App />);
+
+    await waitFor(() => {
+      expect(screen.getByText('First Page Task')).toBeDefined();
+    });
+    expect(screen.queryByText('Second Page Task')).toBeNull();
+
+    await user.click(screen.getByRole('button', { name: 'Load more' }));
+
+    await waitFor(() => {
+      expect(screen.getByText('First Page Task')).toBeDefined();
+      expect(screen.getByText('Second Page Task')).toBeDefined();
+    });
+    expect(screen.queryByText('Load more')).toBeNull();
+  });
+
+  it('should send the filter and sort to the server', async () => {
+    const requests = [];
+    mock.onGet('http://localhost:8080/api/tasks').reply((config) => {
+      requests.push(config.params);
+      return [200, []];
+    });
+
+    const user = userEvent.setup();
+    render(<App />);
+
+    await waitFor(() => {
+      expect(requests).toHaveLength(1);
+    });
+    expect(requests[0].sort).toBe('updated');
+
+    await user.click(screen.getByRole('button', { name: 'Active' }));
+    await waitFor(() => {
+      expect(requests).toHaveLength(2);
+    });
+    expect(requests[1].completed).toBe(false);
+
+    await user.click(screen.getByRole('button', { name: 'Due Date' }));
+    await waitFor(() => {
+      expect(requests).toHaveLength(3);
+    });
+    expect(requests[2]).toMatchObject({ completed: false, sort: 'due' });
+  });
 });